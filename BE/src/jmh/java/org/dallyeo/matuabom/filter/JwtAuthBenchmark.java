@@ -0,0 +1,94 @@
+package org.dallyeo.matuabom.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.http.Cookie;
+import org.dallyeo.matuabom.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthFilter 요청당 비용
+ * - 토큰 검증: 매번 파서 생성(이전) / 파서 재사용 / 검증 캐시 hit
+ * - 검증은 요청이 동시에 들어오는 상황을 보려고 8 스레드 (공유 캐시 경합 포함)
+ * - 쿠키 찾기: stream(이전) / 루프
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthBenchmark {
+
+    private SecretKey key;
+    private JwtUtil uncached;
+    private JwtUtil cached;
+    private String token;
+    private Cookie[] cookies;
+
+    @Setup
+    public void setup() {
+        // JwtUtil 과 같은 기본 secret (JWT_SECRET 환경변수가 없을 때)
+        String secret = System.getenv().getOrDefault("JWT_SECRET",
+                "change-this-to-a-long-long-random-secret-change-this");
+        key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+        uncached = new JwtUtil(0);
+        cached = new JwtUtil(10_000);
+        token = cached.createAccessToken("1234567890");
+        cached.validateAndGetSub(token);
+
+        // 브라우저가 보통 같이 보내는 쿠키 몇 개 + 마지막에 ACCESS_TOKEN
+        cookies = new Cookie[]{
+                new Cookie("JSESSIONID", "5D2C1E9A7B"),
+                new Cookie("_ga", "GA1.1.123456789.1700000000"),
+                new Cookie("theme", "dark"),
+                new Cookie("ACCESS_TOKEN", token)
+        };
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String verifyNewParserEachTime() {
+        return Jwts.parser().verifyWith(key).build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String verifyReusedParser() {
+        return uncached.validateAndGetSub(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String verifyCached() {
+        return cached.validateAndGetSub(token);
+    }
+
+    @Benchmark
+    public String cookieStream() {
+        return Arrays.stream(cookies)
+                .filter(c -> "ACCESS_TOKEN".equals(c.getName()))
+                .map(Cookie::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public String cookieLoop() {
+        return JwtAuthFilter.cookieValue(cookies, "ACCESS_TOKEN");
+    }
+}
@@ -0,0 +1,68 @@
+package org.dallyeo.matuabom.util;
+
+import org.dallyeo.matuabom.dto.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공통 빈 시간 sweep 비용 (한 달 창, 참가자 수별)
+ * - 참가자마다 하루 평균 eventsPerDay 개 (30분 ~ 3시간), 근무 시간 09:00 ~ 18:00
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FreeSlotFinderBenchmark {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Param({"5", "30", "60"})
+    public int participants;
+
+    @Param({"4"})
+    public int eventsPerDay;
+
+    private long[] starts;
+    private long[] ends;
+    private long from;
+    private long to;
+    private FreeSlotFinder.WorkingHours hours;
+
+    @Setup
+    public void setup() {
+        LocalDate first = LocalDate.of(2025, 3, 1);
+        from = first.atStartOfDay(SEOUL).toInstant().toEpochMilli();
+        to = first.plusMonths(1).atStartOfDay(SEOUL).toInstant().toEpochMilli();
+        hours = new FreeSlotFinder.WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0), SEOUL, false);
+
+        Random random = new Random(42);
+        int n = participants * eventsPerDay * 31;
+        starts = new long[n];
+        ends = new long[n];
+        long span = to - from;
+        for (int i = 0; i < n; i++) {
+            long start = from + (long) (random.nextDouble() * span);
+            start -= start % (15 * 60_000L);
+            starts[i] = start;
+            ends[i] = start + (30 + random.nextInt(151)) * 60_000L;
+        }
+    }
+
+    @Benchmark
+    public List<TimeSlot> monthWindow() {
+        return FreeSlotFinder.find(starts, ends, starts.length, from, to, 30 * 60_000L, hours);
+    }
+}
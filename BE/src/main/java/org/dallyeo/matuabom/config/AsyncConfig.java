@@ -1,18 +1,38 @@
 package org.dallyeo.matuabom.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
+    /**
+     * app.google.sync.executor-mode
+     * - platform (기본): 고정 크기 스레드 풀
+     * - virtual: 작업마다 가상 스레드 (블로킹 구글 호출이 플랫폼 스레드를 잡지 않음)
+     *   동시 호출 수 제한은 GoogleApiRateLimiter 가 담당
+     */
+    @Value("${app.google.sync.executor-mode:platform}")
+    private String executorMode;
+
+    private boolean virtualThreads() {
+        return "virtual".equalsIgnoreCase(executorMode);
+    }
+
     @Bean(name = "googleSyncExecutor")
     public Executor googleSyncExecutor() {
+        if (virtualThreads()) {
+            return new VirtualThreadTaskExecutor("google-sync-");
+        }
         ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
         ex.setCorePoolSize(4);
         ex.setMaxPoolSize(8);
@@ -21,4 +41,53 @@ public class AsyncConfig {
         ex.initialize();
         return ex;
     }
-}
\ No newline at end of file
+
+    /**
+     * 전체 동기화 시 구글 페이지를 미리 받아오는 prefetch 작업 전용
+     * - googleSyncExecutor 안에서 다시 같은 풀에 작업을 넣으면 풀이 꽉 찼을 때 서로 기다리게 되므로 분리
+     */
+    @Bean(name = "googleImportExecutor")
+    public Executor googleImportExecutor() {
+        if (virtualThreads()) {
+            return new VirtualThreadTaskExecutor("google-import-");
+        }
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(4);
+        ex.setMaxPoolSize(8);
+        ex.setQueueCapacity(100);
+        ex.setThreadNamePrefix("google-import-");
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * 공통 빈 시간 계산 시 유저별 일정 조회 병렬 실행용 (GroupAvailabilityService)
+     */
+    @Bean(name = "availabilityExecutor")
+    public Executor availabilityExecutor() {
+        if (virtualThreads()) {
+            return new VirtualThreadTaskExecutor("availability-");
+        }
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(8);
+        ex.setMaxPoolSize(16);
+        ex.setQueueCapacity(500);
+        ex.setThreadNamePrefix("availability-");
+        ex.initialize();
+        return ex;
+    }
+
+    /**
+     * SSE fan-out 전용 (요청 스레드에서 emitter.send 하지 않도록)
+     */
+    @Bean(name = "sseFanoutExecutor")
+    public Executor sseFanoutExecutor() {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(4);
+        ex.setMaxPoolSize(4);
+        ex.setQueueCapacity(10_000);
+        ex.setThreadNamePrefix("sse-fanout-");
+        ex.initialize();
+        return ex;
+    }
+}
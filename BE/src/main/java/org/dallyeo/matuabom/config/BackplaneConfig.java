@@ -0,0 +1,36 @@
+package org.dallyeo.matuabom.config;
+
+import org.dallyeo.matuabom.service.CalendarBackplane;
+import org.dallyeo.matuabom.service.LocalCalendarBackplane;
+import org.dallyeo.matuabom.service.MongoCalendarBackplane;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+
+/**
+ * app.backplane.type
+ * - local (기본): 한 프로세스 안에서만 전달
+ * - mongo: calendar_signals change stream 으로 다른 인스턴스에도 전달 (replica set 필요)
+ */
+@Configuration
+public class BackplaneConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.backplane.type", havingValue = "local", matchIfMissing = true)
+    public CalendarBackplane localCalendarBackplane() {
+        return new LocalCalendarBackplane();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "app.backplane.type", havingValue = "mongo")
+    public CalendarBackplane mongoCalendarBackplane(
+            MongoTemplate mongoTemplate,
+            @Value("${app.backplane.mongo.retention-minutes:60}") long retentionMinutes
+    ) {
+        return new MongoCalendarBackplane(mongoTemplate, Duration.ofMinutes(retentionMinutes));
+    }
+}
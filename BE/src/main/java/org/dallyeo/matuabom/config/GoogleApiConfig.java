@@ -1,20 +1,31 @@
 package org.dallyeo.matuabom.config;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.io.IOException;
-import java.security.GeneralSecurityException;
-
 @Configuration
 public class GoogleApiConfig {
 
-    @Bean
-    public NetHttpTransport googleNetHttpTransport() throws GeneralSecurityException, IOException {
-        return GoogleNetHttpTransport.newTrustedTransport();
+    /**
+     * 앱 전체에서 공유하는 Google HTTP transport
+     * - 커넥션 풀을 transport 자체에 두어서 동시 sync 시 TLS 핸드셰이크 재사용
+     * - JVM 전역 설정(http.maxConnections)은 건드리지 않음
+     * - Google 호스트는 몇 개뿐이라 route당 한도 = 전체 한도
+     */
+    @Bean(destroyMethod = "shutdown")
+    public HttpTransport googleHttpTransport(
+            @Value("${app.google.http.max-connections:32}") int maxConnections
+    ) {
+        return new ApacheHttpTransport(
+                ApacheHttpTransport.newDefaultHttpClientBuilder()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnections)
+                        .build()
+        );
     }
 
     @Bean
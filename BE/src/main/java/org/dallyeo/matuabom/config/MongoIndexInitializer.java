@@ -0,0 +1,151 @@
+package org.dallyeo.matuabom.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.util.EventBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 시작 시 Mongo 인덱스 생성 + 점검
+ * - spring.data.mongodb.auto-index-creation 은 꺼져 있으므로 @Document 엔티티의
+ *   @Indexed / @CompoundIndex 정의를 여기서 직접 ensureIndex 한다
+ * - 생성 후에도 없는 인덱스, 그리고 주요 조회 쿼리의 실행 계획이 COLLSCAN / 메모리 SORT 인 경우 경고 로그
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    @Value("${app.mongo.index-bootstrap.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.mongo.index-bootstrap.verify-plans:true}")
+    private boolean verifyPlans;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) continue;
+
+            IndexOperations ops = mongoTemplate.indexOps(entity.getType());
+            try {
+                List<IndexDefinition> defs = new ArrayList<>();
+                resolver.resolveIndexFor(entity.getTypeInformation()).forEach(defs::add);
+                defs.forEach(ops::ensureIndex);
+                reportMissing(entity.getCollection(), defs, ops);
+            } catch (Exception e) {
+                log.error("index bootstrap failed for {}", entity.getCollection(), e);
+            }
+        }
+
+        if (verifyPlans) verifyCalendarQueryPlans();
+    }
+
+    private void reportMissing(String collection, List<IndexDefinition> defs, IndexOperations ops) {
+        Set<String> existing = ops.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+
+        for (IndexDefinition def : defs) {
+            Object name = def.getIndexOptions().get("name");
+            if (name != null && !existing.contains(name.toString())) {
+                log.warn("missing index {}.{}", collection, name);
+            }
+        }
+    }
+
+    /* ===========================
+     *  실행 계획 점검 (calendar_events)
+     * =========================== */
+
+    /**
+     * CalendarEventRepository 의 주요 조회와 같은 모양의 쿼리를 explain(queryPlanner) 으로 확인
+     * - 실제 데이터는 읽지 않는다 (queryPlanner 는 계획만 세움)
+     */
+    private void verifyCalendarQueryPlans() {
+        String collection = mongoTemplate.getCollectionName(CalendarEventDto.class);
+        Document byStart = new Document("startTimestamp", 1);
+
+        Map<String, Document[]> queries = Map.of(
+                "list", new Document[]{
+                        new Document("userEmail", "_explain"),
+                        byStart
+                },
+                "overlap", new Document[]{
+                        new Document("userEmail", "_explain")
+                                .append("startTimestamp", new Document("$lt", 1L))
+                                .append("endTimestamp", new Document("$gt", 0L)),
+                        byStart
+                },
+                "bucket-overlap", new Document[]{
+                        new Document("userEmail", "_explain")
+                                .append("buckets", new Document("$in", Arrays.asList(0, EventBuckets.LONG_BUCKET, null)))
+                                .append("startTimestamp", new Document("$lt", 1L))
+                                .append("endTimestamp", new Document("$gt", 0L)),
+                        byStart
+                }
+        );
+
+        queries.forEach((name, q) -> {
+            try {
+                Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                        new Document("find", collection).append("filter", q[0]).append("sort", q[1]))
+                        .append("verbosity", "queryPlanner"));
+
+                Object winning = ((Document) explain.get("queryPlanner")).get("winningPlan");
+                List<String> stages = new ArrayList<>();
+                collectStages(winning, stages);
+
+                if (stages.contains("COLLSCAN")) {
+                    log.warn("calendar_events '{}' query falls back to COLLSCAN: {}", name, stages);
+                } else if (stages.contains("SORT")) {
+                    log.warn("calendar_events '{}' query sorts in memory: {}", name, stages);
+                } else {
+                    log.info("calendar_events '{}' query plan: {}", name, stages);
+                }
+            } catch (Exception e) {
+                log.warn("explain failed for calendar_events '{}' query", name, e);
+            }
+        });
+    }
+
+    /** winningPlan 트리에서 stage 이름만 모은다 (inputStage / inputStages / queryPlan) */
+    private void collectStages(Object node, List<String> out) {
+        if (node instanceof Document d) {
+            Object stage = d.get("stage");
+            if (stage != null) out.add(stage.toString());
+            collectStages(d.get("queryPlan"), out);
+            collectStages(d.get("inputStage"), out);
+            collectStages(d.get("inputStages"), out);
+        } else if (node instanceof List<?> list) {
+            list.forEach(n -> collectStages(n, out));
+        }
+    }
+}
@@ -1,14 +1,37 @@
 package org.dallyeo.matuabom.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * 외부 API(카카오 등) 호출용 RestTemplate
+ * - JDK HttpClient 하나를 재사용 → 커넥션 keep-alive 풀 공유 (요청마다 새 연결 X)
+ * - connect / read timeout 필수 (외부 API 가 멈춰도 요청 스레드가 묶이지 않게)
+ * - RestTemplateBuilder 로 만들어야 http.client.requests 메트릭이 붙는다
+ */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder,
+            @Value("${app.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${app.http.read-timeout-ms:5000}") long readTimeoutMs
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder.requestFactory(() -> requestFactory).build();
     }
 }
@@ -29,6 +29,10 @@ public class SecurityConfig {
     @Value("${app.frontend-base-url:http://localhost:3000}")
     private String frontendBaseUrl;
 
+    // 내부 전용 management 포트 (외부로 publish 하지 않음), 미설정이면 -1
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     private final KakaoOAuth2UserService kakaoOAuth2UserService;
     private final JwtLoginSuccessHandler jwtLoginSuccessHandler;
     private final JwtAuthFilter jwtAuthFilter;
@@ -61,8 +65,15 @@ public class SecurityConfig {
                         // oauth2 endpoints
                         .requestMatchers("/oauth2/**", "/login/**").permitAll()
 
+                        // actuator: health 만 공개, metrics 등은 management 포트로 들어온 요청만
+                        //  (일반 로그인 유저가 앱 포트로 metrics 를 볼 수 없게)
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers(req -> managementPort > 0 && req.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
+
                         // protected API
                         .requestMatchers("/api/calendar/**").authenticated()
+                        .requestMatchers("/api/sse/**").authenticated()
 
                         .anyRequest().permitAll()
                 )
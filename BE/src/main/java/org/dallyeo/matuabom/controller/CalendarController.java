@@ -1,10 +1,17 @@
 package org.dallyeo.matuabom.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.dallyeo.matuabom.dto.CalendarChangesRes;
 import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
+import org.dallyeo.matuabom.dto.EventPageRes;
+import org.dallyeo.matuabom.dto.GroupAvailabilityRes;
 import org.dallyeo.matuabom.dto.CreateEventReq;
 import org.dallyeo.matuabom.service.CalendarEventService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
@@ -29,6 +36,79 @@ public class CalendarController {
         return calendarEventService.getEvents(start, end);
     }
 
+    // ========================================================
+    // 📌 그리드용 compact 조회 (?view=compact, column 배열 + 숫자 timestamp)
+    // ========================================================
+    @GetMapping(value = "/events", params = "view=compact")
+    public CompactEventsRes getCompactEvents(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end
+    ) {
+
+        return calendarEventService.getCompactEvents(start, end);
+    }
+
+    // ========================================================
+    // 📌 커서 페이지 조회 (?pageSize=&pageToken=)
+    // ========================================================
+    @GetMapping(value = "/events", params = "pageSize")
+    public EventPageRes getEventPage(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam int pageSize,
+            @RequestParam(required = false) String pageToken
+    ) {
+
+        return calendarEventService.getEventPage(start, end, pageSize, pageToken);
+    }
+
+    // ========================================================
+    // 📌 스트리밍 조회 (NDJSON 기본, ?format=json 이면 JSON 배열)
+    // ========================================================
+    @GetMapping("/events/stream")
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @RequestParam(required = false) String start,
+            @RequestParam(required = false) String end,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+
+        MediaType type = "json".equalsIgnoreCase(format)
+                ? MediaType.APPLICATION_JSON
+                : MediaType.APPLICATION_NDJSON;
+
+        return ResponseEntity.ok()
+                .contentType(type)
+                .body(calendarEventService.streamEvents(start, end, format));
+    }
+
+    // ========================================================
+    // 📌 변경분 조회 (since 버전 이후 생성/수정 본문 + 삭제 id)
+    // ========================================================
+    @GetMapping("/changes")
+    public CalendarChangesRes getChanges(@RequestParam(defaultValue = "0") long since) {
+
+        return calendarEventService.getChangesSince(since);
+    }
+
+    // ========================================================
+    // 📌 공통 빈 시간 (나 + userIds 모두 비어 있는 구간, userIds 는 내 카카오 친구만 → 아니면 403)
+    // ========================================================
+    @GetMapping("/availability")
+    public GroupAvailabilityRes getAvailability(
+            @RequestParam List<String> userIds,
+            @RequestParam String start,
+            @RequestParam String end,
+            @RequestParam(defaultValue = "30") int minMinutes,
+            @RequestParam(required = false) String workStart,
+            @RequestParam(required = false) String workEnd,
+            @RequestParam(defaultValue = "false") boolean weekdaysOnly,
+            @RequestParam(defaultValue = "false") boolean includeAllDay
+    ) {
+
+        return calendarEventService.getGroupAvailability(
+                userIds, start, end, minMinutes, workStart, workEnd, weekdaysOnly, includeAllDay);
+    }
+
     // ========================================================
     // 📌 일정 생성
     // ========================================================
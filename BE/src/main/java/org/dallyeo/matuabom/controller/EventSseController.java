@@ -3,7 +3,9 @@ package org.dallyeo.matuabom.controller;
 import lombok.RequiredArgsConstructor;
 import org.dallyeo.matuabom.service.EventSseService;
 import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -16,7 +18,11 @@ public class EventSseController {
     private final EventSseService eventSseService;
 
     @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
-        return eventSseService.subscribe();
+    public SseEmitter subscribe(
+            Authentication authentication,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        // /api/sse/** 는 SecurityConfig 에서 인증 필수
+        return eventSseService.subscribe(authentication.getName(), lastEventId);
     }
 }
@@ -2,8 +2,7 @@ package org.dallyeo.matuabom.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.dallyeo.matuabom.service.GoogleOAuthClientService;
-import org.dallyeo.matuabom.service.GoogleSyncService;
+import org.dallyeo.matuabom.service.GoogleWebhookRouter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -14,8 +13,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class GoogleWebhookController {
 
-    private final GoogleOAuthClientService googleTokens;
-    private final GoogleSyncService googleSyncService;
+    private final GoogleWebhookRouter webhookRouter;
 
     @PostMapping("/webhook")
     public ResponseEntity<Void> handleWebhook(HttpServletRequest request) {
@@ -24,13 +22,14 @@ public class GoogleWebhookController {
         String state      = request.getHeader("X-Goog-Resource-State");
         String token      = request.getHeader("X-Goog-Channel-Token");
 
-        // 기본적으로는 channelId 로 토큰 엔티티 찾기
-        googleTokens.findByChannelId(channelId).ifPresent(tokens -> {
-            // userId 는 엔티티에 저장돼 있음
-            String userId = tokens.getUserId();
-            // 증분 동기화는 비동기로 처리
-            googleSyncService.runIncrementalSync(userId);
-        });
+        // watch 등록 직후 오는 "sync" 알림은 변경이 아님 → 무시
+        if ("sync".equals(state)) {
+            return ResponseEntity.noContent().build();
+        }
+
+        // channelId → userId 는 메모리 라우팅 테이블에서 (token / resourceId 검증 포함)
+        // 증분 동기화는 유저별로 합쳐서 비동기로 처리 → 여기서는 Mongo 를 기다리지 않는다
+        webhookRouter.route(channelId, resourceId, token);
 
         // 구글 입장에서는 2xx 이면 OK라서 204로 응답
         return ResponseEntity.noContent().build();
@@ -1,19 +1,19 @@
 package org.dallyeo.matuabom.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.dallyeo.matuabom.domain.User;
+import org.dallyeo.matuabom.service.KakaoFriendsService;
 import org.dallyeo.matuabom.service.UserService;
 import org.dallyeo.matuabom.util.JwtUtil;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
 
 @RestController
 @RequiredArgsConstructor
 public class KakaoApiController {
-    private final RestTemplate restTemplate;
+    private final KakaoFriendsService kakaoFriendsService;
     private final JwtUtil jwtUtil;
     private final UserService userService;
 
@@ -26,14 +26,15 @@ public class KakaoApiController {
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid token");
         }
-        User user = userService.findById(userId);
-        String accessToken = user.getKakaoAccessToken();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        ResponseEntity<String> response = restTemplate.exchange("https://kapi.kakao.com/v1/api/talk/friends", HttpMethod.GET, new HttpEntity<>(headers), String.class);
-
-        return ResponseEntity.status(response.getStatusCode()).body(response.getBody());
+        try {
+            // 카카오 토큰은 캐시 miss 일 때만 DB 에서 꺼낸다
+            String body = kakaoFriendsService.friends(userId,
+                    () -> userService.findById(userId).getKakaoAccessToken());
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (HttpStatusCodeException e) {
+            // 카카오 오류는 상태코드/본문 그대로 전달
+            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsString());
+        }
     }
 }
@@ -0,0 +1,33 @@
+package org.dallyeo.matuabom.domain;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 일정 변경 로그 한 줄 (delta 조회 / SSE 재개용)
+ * - 한 번의 쓰기(append)에 속한 항목들은 같은 version 을 가진다
+ * - 오래된 로그는 TTL 로 정리 → 그보다 오래된 since 는 전체 재조회
+ */
+@Data
+@Document(collection = "calendar_changes")
+@CompoundIndex(name = "user_version_idx", def = "{'userId': 1, 'version': 1}")
+public class CalendarChange {
+
+    public enum Op { UPSERT, DELETE }
+
+    @Id
+    private String id;
+
+    private String userId;
+    private long version;
+    private String eventId;
+    private Op op;
+
+    @Indexed(name = "at_ttl", expireAfter = "30d")
+    private Instant at;
+}
@@ -0,0 +1,22 @@
+package org.dallyeo.matuabom.domain;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 유저별 일정 변경 버전 카운터 ($inc 로만 증가)
+ */
+@Data
+@Document(collection = "calendar_versions")
+public class CalendarVersion {
+
+    @Id
+    private String id; // userId
+
+    private long version;
+
+    private Instant updatedAt; // 마지막으로 버전을 받은 시각 (로그가 안 따라온 버전 판단용)
+}
@@ -2,6 +2,7 @@ package org.dallyeo.matuabom.domain;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -14,12 +15,14 @@ public class GoogleOAuthClientEntity {
     @Id
     private String id; // google:userId 형태로 저장
 
-    private String userId;
+    @Indexed(name = "user_id_idx")
+    private String userId;                 // findByUserId / existsByUserId
     private String googleEmail;
 
     private String accessToken;
     private Instant accessTokenIssuedAt;
-    private Instant accessTokenExpiresAt;
+    @Indexed(name = "access_token_expires_idx")
+    private Instant accessTokenExpiresAt;  // 토큰 sweeper 조회용
 
     private String refreshToken;
     private Instant refreshTokenIssuedAt;
@@ -29,8 +32,11 @@ public class GoogleOAuthClientEntity {
 
     private String syncToken;
 
+    @Indexed(name = "watch_channel_idx")
     private String watchChannelId;     // X-Goog-Channel-ID
     private String watchResourceId;    // X-Goog-Resource-ID
-    private Instant watchExpiresAt;    // 만료 시각
+    private String watchChannelToken;  // X-Goog-Channel-Token (채널마다 무작위, webhook 검증용)
+    @Indexed(name = "watch_expires_idx")
+    private Instant watchExpiresAt;    // 만료 시각 (GoogleWatchRenewer 조회용)
 }
 
@@ -0,0 +1,55 @@
+package org.dallyeo.matuabom.domain;
+
+import lombok.Data;
+import org.dallyeo.matuabom.dto.CreateEventReq;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * 구글 반영 작업 (outbox)
+ * - 요청 스레드는 여기에 insert 만 하고, SyncJobWorker 가 lease 를 잡고 실행한다
+ * - 실패하면 지수 backoff 로 재시도, maxAttempts 를 넘기면 DEAD
+ */
+@Data
+@Document(collection = "sync_jobs")
+@CompoundIndexes({
+        @CompoundIndex(name = "claim_idx", def = "{'status': 1, 'nextAttemptAt': 1}"),
+        @CompoundIndex(name = "lease_idx", def = "{'leaseOwner': 1}"),
+        // 유저당 대기 중인 증분 동기화는 1개만
+        @CompoundIndex(name = "pending_incremental_uq", def = "{'userId': 1, 'type': 1}", unique = true,
+                partialFilter = "{'status': 'PENDING', 'type': 'INCREMENTAL'}"),
+        // 유저당 대기 중인 watch 채널 갱신도 1개만 (여러 인스턴스 renewer 가 동시에 넣어도)
+        @CompoundIndex(name = "pending_renew_watch_uq", def = "{'userId': 1, 'type': 1}", unique = true,
+                partialFilter = "{'status': 'PENDING', 'type': 'RENEW_WATCH'}")
+})
+public class SyncJob {
+
+    public enum Type { INITIAL, INCREMENTAL, CREATE, UPDATE, DELETE, RENEW_WATCH }
+
+    public enum Status { PENDING, RUNNING, DEAD }
+
+    @Id
+    private String id;
+
+    private String userId;
+    private Type type;
+
+    private String eventId;          // UPDATE / DELETE 대상
+    private CreateEventReq payload;  // CREATE / UPDATE 내용
+
+    private Status status;
+    private int attempts;
+    private Instant nextAttemptAt;
+
+    private String leaseOwner;       // claim 한 poll 의 토큰
+    private Instant leaseExpiresAt;
+
+    private String lastError;
+
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -0,0 +1,21 @@
+package org.dallyeo.matuabom.dto;
+
+import java.util.List;
+
+/**
+ * GET /api/calendar/changes 응답
+ * - version: 다음 요청의 since 로 쓰면 되는 값
+ * - resyncRequired = true 이면 since 가 너무 오래돼서 전체 조회가 필요
+ * - upserts: 생성/수정된 일정 본문, deletes: 삭제된 일정 id (tombstone)
+ */
+public record CalendarChangesRes(
+        long version,
+        boolean resyncRequired,
+        List<CalendarEventDto> upserts,
+        List<String> deletes
+) {
+
+    public static CalendarChangesRes resync(long version) {
+        return new CalendarChangesRes(version, true, List.of(), List.of());
+    }
+}
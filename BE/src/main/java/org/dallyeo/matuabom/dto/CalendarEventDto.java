@@ -1,14 +1,28 @@
 package org.dallyeo.matuabom.dto;
 
 import lombok.*;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.annotation.Id;
 
+import java.util.List;
+
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Document(collection = "calendar_events")
+@CompoundIndexes({
+        // 전체 목록 정렬 + 기간 겹침 조회 (start < rangeEnd 범위 스캔, end 는 인덱스 키로 바로 필터, 정렬 없음)
+        @CompoundIndex(name = "user_start_end_idx", def = "{'userEmail': 1, 'startTimestamp': 1, 'endTimestamp': 1}"),
+        // 최근 구간 조회처럼 end > rangeStart 쪽이 더 좁을 때
+        @CompoundIndex(name = "user_end_idx", def = "{'userEmail': 1, 'endTimestamp': 1}"),
+        // 커서 페이지 / 스트리밍 (startTimestamp, _id) keyset 순서
+        @CompoundIndex(name = "user_start_id_idx", def = "{'userEmail': 1, 'startTimestamp': 1, '_id': 1}"),
+        // 월 버킷 multikey → 기간 조회를 버킷 일치로 (EventBuckets)
+        @CompoundIndex(name = "user_bucket_start_idx", def = "{'userEmail': 1, 'buckets': 1, 'startTimestamp': 1}")
+})
 public class CalendarEventDto {
 
     @Id
@@ -27,4 +41,8 @@ public class CalendarEventDto {
     private String timeZone;    // Asia/Seoul
 
     private String color;
+
+    private String contentHash; // 구글 원본 내용 해시 (전체 재동기화 시 변경 감지용)
+
+    private List<Integer> buckets; // 걸쳐 있는 월 버킷 (EventBuckets, 쓰기 때마다 같이 갱신)
 }
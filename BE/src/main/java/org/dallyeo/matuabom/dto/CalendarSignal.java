@@ -0,0 +1,14 @@
+package org.dallyeo.matuabom.dto;
+
+/**
+ * 인스턴스 간에 돌리는 일정 변경 신호 (CalendarBackplane)
+ * - 받는 쪽은 조회 캐시 무효화 + SSE events-updated 전송
+ * - origin: 보낸 인스턴스 id (자기 신호를 원격 경로로 한 번 더 받지 않게)
+ */
+public record CalendarSignal(
+        String origin,
+        String userId,
+        long version,
+        EventChangeSet changes
+) {
+}
@@ -0,0 +1,40 @@
+package org.dallyeo.matuabom.dto;
+
+import java.util.List;
+
+/**
+ * 월/주 그리드용 가벼운 일정 목록 (GET /api/calendar/events?view=compact)
+ * - 일정 하나 = 각 배열의 같은 index (column 방식, 필드명 반복 없음)
+ * - 시간은 epoch millis 숫자만, description / ISO 문자열은 싣지 않는다
+ */
+public record CompactEventsRes(
+        int count,
+        String[] id,
+        String[] title,
+        long[] start,
+        long[] end,
+        boolean[] allDay,
+        String[] color
+) {
+
+    public static CompactEventsRes of(List<CalendarEventDto> events) {
+        int n = events.size();
+        String[] id = new String[n];
+        String[] title = new String[n];
+        long[] start = new long[n];
+        long[] end = new long[n];
+        boolean[] allDay = new boolean[n];
+        String[] color = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            CalendarEventDto e = events.get(i);
+            id[i] = e.getId();
+            title[i] = e.getTitle();
+            start[i] = e.getStartTimestamp() == null ? 0L : e.getStartTimestamp();
+            end[i] = e.getEndTimestamp() == null ? 0L : e.getEndTimestamp();
+            allDay[i] = e.isAllDay();
+            color[i] = e.getColor();
+        }
+        return new CompactEventsRes(n, id, title, start, end, allDay, color);
+    }
+}
@@ -0,0 +1,37 @@
+package org.dallyeo.matuabom.dto;
+
+import java.util.List;
+
+/**
+ * 한 번의 쓰기(동기화/생성/수정/삭제)로 바뀐 일정 id 묶음
+ */
+public record EventChangeSet(
+        List<String> created,
+        List<String> updated,
+        List<String> deleted
+) {
+
+    public static EventChangeSet empty() {
+        return new EventChangeSet(List.of(), List.of(), List.of());
+    }
+
+    public static EventChangeSet created(String id) {
+        return new EventChangeSet(List.of(id), List.of(), List.of());
+    }
+
+    public static EventChangeSet updated(String id) {
+        return new EventChangeSet(List.of(), List.of(id), List.of());
+    }
+
+    public static EventChangeSet deleted(String id) {
+        return new EventChangeSet(List.of(), List.of(), List.of(id));
+    }
+
+    public int size() {
+        return created.size() + updated.size() + deleted.size();
+    }
+
+    public boolean isEmpty() {
+        return created.isEmpty() && updated.isEmpty() && deleted.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package org.dallyeo.matuabom.dto;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 조회 응답 (GET /api/calendar/events?pageSize=)
+ * - nextPageToken 이 null 이면 마지막 페이지
+ */
+public record EventPageRes(
+        List<CalendarEventDto> items,
+        String nextPageToken
+) {
+}
@@ -0,0 +1,26 @@
+package org.dallyeo.matuabom.dto;
+
+import java.util.List;
+
+/**
+ * SSE "events-updated" 이벤트 본문
+ * - version: 유저별 단조 증가 변경 번호 (SSE id 로도 내려가서 Last-Event-ID 재개에 사용)
+ * - full = true 이면 id 목록 없이 "전체 다시 조회" 신호 (대량 변경 / 재개 불가)
+ */
+public record EventsUpdatedPayload(
+        long version,
+        boolean full,
+        List<String> created,
+        List<String> updated,
+        List<String> deleted
+) {
+
+    public static EventsUpdatedPayload of(long version, EventChangeSet changes) {
+        return new EventsUpdatedPayload(version, false,
+                changes.created(), changes.updated(), changes.deleted());
+    }
+
+    public static EventsUpdatedPayload fullRefresh(long version) {
+        return new EventsUpdatedPayload(version, true, List.of(), List.of(), List.of());
+    }
+}
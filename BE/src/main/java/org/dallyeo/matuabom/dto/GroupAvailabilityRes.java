@@ -0,0 +1,15 @@
+package org.dallyeo.matuabom.dto;
+
+import java.util.List;
+
+/**
+ * 여러 유저 공통 빈 시간 (GET /api/calendar/availability)
+ * - slots 는 시작 시각 순, 모든 참가자가 비어 있는 구간만
+ */
+public record GroupAvailabilityRes(
+        List<String> userIds,
+        long from,
+        long to,
+        List<TimeSlot> slots
+) {
+}
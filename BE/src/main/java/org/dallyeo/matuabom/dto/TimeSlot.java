@@ -0,0 +1,13 @@
+package org.dallyeo.matuabom.dto;
+
+/**
+ * 시간 구간 [start, end) (epoch millis)
+ */
+public record TimeSlot(
+        long start,
+        long end
+) {
+    public long length() {
+        return end - start;
+    }
+}
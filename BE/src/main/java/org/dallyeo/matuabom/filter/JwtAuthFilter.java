@@ -14,35 +14,40 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.Collections;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
+    private static final String ACCESS_TOKEN_COOKIE = "ACCESS_TOKEN";
+
     private final JwtUtil jwtUtil;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        String token = null;
-        if (request.getCookies() != null) {
-            token = Arrays.stream(request.getCookies())
-                    .filter(c -> "ACCESS_TOKEN".equals(c.getName()))
-                    .map(Cookie::getValue)
-                    .findFirst()
-                    .orElse(null);
-        }
+        String token = cookieValue(request.getCookies(), ACCESS_TOKEN_COOKIE);
 
         if (token != null) {
             try {
                 String userId = jwtUtil.validateAndGetSub(token);
                 var auth = new UsernamePasswordAuthenticationToken(
-                        userId, null, java.util.Collections.emptyList()
+                        userId, null, Collections.emptyList()
                 );
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                auth.setDetails(detailsSource.buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(auth);
             } catch (Exception ignored) { }
         }
         filterChain.doFilter(request, response);
     }
+
+    // 요청마다 도는 경로라 stream 대신 단순 루프 (추가 할당 없음)
+    static String cookieValue(Cookie[] cookies, String name) {
+        if (cookies == null) return null;
+        for (Cookie c : cookies) {
+            if (name.equals(c.getName())) return c.getValue();
+        }
+        return null;
+    }
 }
@@ -0,0 +1,18 @@
+package org.dallyeo.matuabom.repository;
+
+import org.dallyeo.matuabom.domain.CalendarChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CalendarChangeRepository extends MongoRepository<CalendarChange, String> {
+
+    List<CalendarChange> findByUserIdAndVersionGreaterThanAndVersionLessThanEqualOrderByVersionAsc(
+            String userId, long since, long upTo, Pageable pageable
+    );
+
+    /** 남아 있는 가장 오래된 로그 (TTL 로 잘린 구간 판단용) */
+    Optional<CalendarChange> findFirstByUserIdOrderByVersionAsc(String userId);
+}
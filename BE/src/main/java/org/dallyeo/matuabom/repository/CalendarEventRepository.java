@@ -3,10 +3,12 @@ package org.dallyeo.matuabom.repository;
 import org.dallyeo.matuabom.dto.CalendarEventDto;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface CalendarEventRepository extends MongoRepository<CalendarEventDto, String> {
+public interface CalendarEventRepository
+        extends MongoRepository<CalendarEventDto, String>, CalendarEventRepositoryCustom {
     void deleteByUserEmail(String userEmail);
 
     List<CalendarEventDto> findByUserEmailOrderByStartTimestampAsc(String userEmail);
@@ -27,4 +29,7 @@ public interface CalendarEventRepository extends MongoRepository<CalendarEventDt
 
     /** 업데이트/삭제 시 소유자 검증용 */
     Optional<CalendarEventDto> findByIdAndUserEmail(String id, String userEmail);
+
+    /** 변경 로그(delta) 조회 시 본문 로딩용 */
+    List<CalendarEventDto> findByUserEmailAndIdIn(String userEmail, Collection<String> ids);
 }
@@ -0,0 +1,57 @@
+package org.dallyeo.matuabom.repository;
+
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate 기반 커스텀 쿼리 / bulk write
+ */
+public interface CalendarEventRepositoryCustom {
+
+    /** 유저의 저장된 일정 id → contentHash (id, hash 만 projection) */
+    Map<String, String> findContentHashesByUserEmail(String userEmail);
+
+    /** 주어진 id 중 이 유저 소유로 이미 저장된 것 ($in 한 번, id 만 projection) */
+    Set<String> findExistingIds(String userEmail, Collection<String> ids);
+
+    /**
+     * 기간 [rangeStart, rangeEnd) 과 겹치는 일정 (startTimestamp 오름차순)
+     * - 월 버킷 $in 으로 후보를 좁힌 뒤 겹침 조건으로 거른다
+     * - buckets 가 아직 없는 문서(backfill 전)도 null 로 같이 찾는다
+     */
+    List<CalendarEventDto> findOverlappingByBuckets(String userEmail, List<Integer> buckets,
+                                                    long rangeStart, long rangeEnd);
+
+    /**
+     * 그리드용 compact 조회 (id, title, timestamp, allDay, color 만 projection)
+     * - buckets / 기간이 null 이면 해당 조건 없이 (전체 조회)
+     */
+    CompactEventsRes findCompact(String userEmail, List<Integer> buckets, Long rangeStart, Long rangeEnd);
+
+    /**
+     * keyset 페이지: (startTimestamp, _id) 가 (afterStart, afterId) 보다 뒤인 것 limit 개
+     * - afterStart/afterId 가 null 이면 처음부터, 기간이 null 이면 기간 조건 없이
+     */
+    List<CalendarEventDto> findPage(String userEmail, Long rangeStart, Long rangeEnd,
+                                    Long afterStart, String afterId, int limit);
+
+    /**
+     * (startTimestamp, _id) 순서로 커서를 그대로 흘려보내는 스트림 (호출 쪽에서 반드시 close)
+     */
+    Stream<CalendarEventDto> streamByUserEmail(String userEmail, Long rangeStart, Long rangeEnd);
+
+    /**
+     * upsert / delete 를 청크 단위 BulkOperations 로 반영
+     * - upsert 는 구글 원본 필드만 $set 하고, color 는 값이 있을 때만 덮어쓴다
+     * - delete 는 userEmail 이 일치하는 문서만 지운다
+     */
+    void bulkUpsertAndDelete(String userEmail,
+                             Collection<CalendarEventDto> upserts,
+                             Collection<String> deleteIds);
+}
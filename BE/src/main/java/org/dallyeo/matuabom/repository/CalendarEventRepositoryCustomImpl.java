@@ -0,0 +1,214 @@
+package org.dallyeo.matuabom.repository;
+
+import org.bson.Document;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class CalendarEventRepositoryCustomImpl implements CalendarEventRepositoryCustom {
+
+    private static final Sort KEYSET_ORDER = Sort.by(Sort.Direction.ASC, "startTimestamp", "_id");
+
+    private final MongoTemplate mongoTemplate;
+    private final int chunkSize;
+
+    public CalendarEventRepositoryCustomImpl(
+            MongoTemplate mongoTemplate,
+            @Value("${app.google.sync.bulk-chunk-size:500}") int chunkSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Map<String, String> findContentHashesByUserEmail(String userEmail) {
+        Query query = Query.query(Criteria.where("userEmail").is(userEmail));
+        query.fields().include("_id").include("contentHash");
+
+        Map<String, String> hashes = new HashMap<>();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(CalendarEventDto.class))
+                .find(query.getQueryObject())
+                .projection(query.getFieldsObject())
+                .forEach((Document doc) -> hashes.put(doc.getString("_id"), doc.getString("contentHash")));
+        return hashes;
+    }
+
+    @Override
+    public Set<String> findExistingIds(String userEmail, Collection<String> ids) {
+        Set<String> existing = new HashSet<>();
+        if (ids.isEmpty()) return existing;
+
+        Query query = Query.query(Criteria.where("_id").in(ids).and("userEmail").is(userEmail));
+        query.fields().include("_id");
+
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(CalendarEventDto.class))
+                .find(query.getQueryObject())
+                .projection(query.getFieldsObject())
+                .forEach((Document doc) -> existing.add(doc.getString("_id")));
+        return existing;
+    }
+
+    @Override
+    public List<CalendarEventDto> findOverlappingByBuckets(String userEmail, List<Integer> buckets,
+                                                           long rangeStart, long rangeEnd) {
+        List<Integer> lookup = new ArrayList<>(buckets);
+        lookup.add(null); // buckets 필드가 없는 문서
+
+        Query query = Query.query(Criteria.where("userEmail").is(userEmail)
+                        .and("buckets").in(lookup)
+                        .and("startTimestamp").lt(rangeEnd)
+                        .and("endTimestamp").gt(rangeStart))
+                .with(Sort.by(Sort.Direction.ASC, "startTimestamp"));
+
+        return mongoTemplate.find(query, CalendarEventDto.class);
+    }
+
+    @Override
+    public CompactEventsRes findCompact(String userEmail, List<Integer> buckets, Long rangeStart, Long rangeEnd) {
+        Criteria criteria = rangeCriteria(userEmail, rangeStart, rangeEnd);
+        if (buckets != null) {
+            List<Integer> lookup = new ArrayList<>(buckets);
+            lookup.add(null);
+            criteria.and("buckets").in(lookup);
+        }
+
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "startTimestamp"));
+        query.fields().include("_id", "title", "startTimestamp", "endTimestamp", "allDay", "color");
+
+        // 엔티티 매핑 없이 driver Document 에서 바로 column 으로
+        List<Document> docs = mongoTemplate.getCollection(mongoTemplate.getCollectionName(CalendarEventDto.class))
+                .find(query.getQueryObject())
+                .projection(query.getFieldsObject())
+                .sort(query.getSortObject())
+                .into(new ArrayList<>());
+
+        int n = docs.size();
+        String[] id = new String[n];
+        String[] title = new String[n];
+        long[] start = new long[n];
+        long[] end = new long[n];
+        boolean[] allDay = new boolean[n];
+        String[] color = new String[n];
+
+        for (int i = 0; i < n; i++) {
+            Document doc = docs.get(i);
+            id[i] = doc.getString("_id");
+            title[i] = doc.getString("title");
+            start[i] = asLong(doc.get("startTimestamp"));
+            end[i] = asLong(doc.get("endTimestamp"));
+            allDay[i] = Boolean.TRUE.equals(doc.getBoolean("allDay"));
+            color[i] = doc.getString("color");
+        }
+        return new CompactEventsRes(n, id, title, start, end, allDay, color);
+    }
+
+    private long asLong(Object v) {
+        return v instanceof Number num ? num.longValue() : 0L;
+    }
+
+    @Override
+    public List<CalendarEventDto> findPage(String userEmail, Long rangeStart, Long rangeEnd,
+                                           Long afterStart, String afterId, int limit) {
+        Criteria criteria = rangeCriteria(userEmail, rangeStart, rangeEnd);
+        if (afterStart != null && afterId != null) {
+            criteria = new Criteria().andOperator(criteria, new Criteria().orOperator(
+                    Criteria.where("startTimestamp").gt(afterStart),
+                    Criteria.where("startTimestamp").is(afterStart).and("_id").gt(afterId)
+            ));
+        }
+
+        Query query = Query.query(criteria).with(KEYSET_ORDER).limit(limit);
+        return mongoTemplate.find(query, CalendarEventDto.class);
+    }
+
+    @Override
+    public Stream<CalendarEventDto> streamByUserEmail(String userEmail, Long rangeStart, Long rangeEnd) {
+        Query query = Query.query(rangeCriteria(userEmail, rangeStart, rangeEnd))
+                .with(KEYSET_ORDER)
+                .cursorBatchSize(chunkSize);
+        return mongoTemplate.stream(query, CalendarEventDto.class);
+    }
+
+    private Criteria rangeCriteria(String userEmail, Long rangeStart, Long rangeEnd) {
+        Criteria criteria = Criteria.where("userEmail").is(userEmail);
+        if (rangeStart != null && rangeEnd != null) {
+            criteria.and("startTimestamp").lt(rangeEnd).and("endTimestamp").gt(rangeStart);
+        }
+        return criteria;
+    }
+
+    @Override
+    public void bulkUpsertAndDelete(String userEmail,
+                                    Collection<CalendarEventDto> upserts,
+                                    Collection<String> deleteIds) {
+
+        BulkOperations ops = null;
+        int pending = 0;
+
+        for (CalendarEventDto e : upserts) {
+            if (ops == null) ops = newBulk();
+            ops.upsert(Query.query(Criteria.where("_id").is(e.getId())), contentUpdate(e));
+            if (++pending >= chunkSize) {
+                ops.execute();
+                ops = null;
+                pending = 0;
+            }
+        }
+
+        List<String> ids = new ArrayList<>(deleteIds);
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            if (ops == null) ops = newBulk();
+            ops.remove(Query.query(Criteria.where("_id").in(chunk).and("userEmail").is(userEmail)));
+            if (++pending >= chunkSize) {
+                ops.execute();
+                ops = null;
+                pending = 0;
+            }
+        }
+
+        if (ops != null && pending > 0) {
+            ops.execute();
+        }
+    }
+
+    private BulkOperations newBulk() {
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CalendarEventDto.class);
+    }
+
+    private Update contentUpdate(CalendarEventDto e) {
+        Update u = new Update()
+                .set("userEmail", e.getUserEmail())
+                .set("title", e.getTitle())
+                .set("start", e.getStart())
+                .set("end", e.getEnd())
+                .set("allDay", e.isAllDay())
+                .set("startTimestamp", e.getStartTimestamp())
+                .set("endTimestamp", e.getEndTimestamp())
+                .set("description", e.getDescription())
+                .set("timeZone", e.getTimeZone())
+                .set("contentHash", e.getContentHash())
+                .set("buckets", e.getBuckets());
+
+        // 색상은 우리 앱에서만 관리 → 새 값이 있을 때만 덮어쓴다
+        if (e.getColor() != null) {
+            u.set("color", e.getColor());
+        }
+        return u;
+    }
+}
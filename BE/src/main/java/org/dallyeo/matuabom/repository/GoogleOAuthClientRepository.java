@@ -3,11 +3,24 @@ package org.dallyeo.matuabom.repository;
 import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 public interface GoogleOAuthClientRepository
         extends MongoRepository<GoogleOAuthClientEntity, String> {
 
     Optional<GoogleOAuthClientEntity> findByUserId(String userId);
+    boolean existsByUserId(String userId);
     Optional<GoogleOAuthClientEntity> findByWatchChannelId(String watchChannelId);
+
+    /** 곧 만료될 watch 채널 (GoogleWatchRenewer) */
+    List<GoogleOAuthClientEntity> findByWatchExpiresAtBeforeOrderByWatchExpiresAtAsc(Instant before, Pageable pageable);
+
+    /** 곧 만료될 access token (GoogleTokenManager sweeper) */
+    List<GoogleOAuthClientEntity> findByAccessTokenExpiresAtBeforeAndRefreshTokenIsNotNullOrderByAccessTokenExpiresAtAsc(
+            Instant before, Pageable pageable
+    );
 }
@@ -0,0 +1,11 @@
+package org.dallyeo.matuabom.repository;
+
+import org.dallyeo.matuabom.domain.SyncJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface SyncJobRepository extends MongoRepository<SyncJob, String> {
+
+    List<SyncJob> findByLeaseOwnerOrderByCreatedAtAsc(String leaseOwner);
+}
@@ -0,0 +1,20 @@
+package org.dallyeo.matuabom.service;
+
+import org.dallyeo.matuabom.dto.CalendarSignal;
+
+import java.util.function.Consumer;
+
+/**
+ * 일정 변경 신호 pub/sub
+ * - publish 한 신호는 현재 인스턴스 구독자에게 바로, 다른 인스턴스 구독자에게는 구현체 경로로 전달
+ * - app.backplane.type: local (기본, 단일 인스턴스 / 테스트) | mongo (change stream, 여러 인스턴스)
+ */
+public interface CalendarBackplane {
+
+    /** 이 인스턴스 id (CalendarSignal.origin) */
+    String nodeId();
+
+    void publish(CalendarSignal signal);
+
+    void subscribe(Consumer<CalendarSignal> listener);
+}
@@ -0,0 +1,76 @@
+package org.dallyeo.matuabom.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.util.EventBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+/**
+ * buckets 필드가 없는 기존 일정에 월 버킷 채우기 (1회성)
+ * - 시작 시 백그라운드 스레드에서 한 번 돌고, 이미 채워진 문서는 건드리지 않는다 (재실행 안전)
+ * - 다 채워지기 전에도 조회는 buckets 없는 문서를 같이 찾으므로 결과가 빠지지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarBucketBackfill implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.calendar.buckets.backfill-on-startup:true}")
+    private boolean enabled;
+
+    @Value("${app.google.sync.bulk-chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+        Thread.ofVirtual().name("calendar-bucket-backfill").start(this::backfill);
+    }
+
+    public long backfill() {
+        Query missing = Query.query(Criteria.where("buckets").exists(false));
+        missing.fields().include("_id").include("startTimestamp").include("endTimestamp");
+
+        long updated = 0;
+        BulkOperations ops = null;
+        int pending = 0;
+
+        try (CloseableIterator<CalendarEventDto> it = mongoTemplate.stream(missing, CalendarEventDto.class)) {
+            while (it.hasNext()) {
+                CalendarEventDto e = it.next();
+                if (ops == null) ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CalendarEventDto.class);
+
+                ops.updateOne(
+                        Query.query(Criteria.where("_id").is(e.getId())),
+                        new Update().set("buckets", EventBuckets.of(e.getStartTimestamp(), e.getEndTimestamp()))
+                );
+                if (++pending >= chunkSize) {
+                    updated += ops.execute().getModifiedCount();
+                    ops = null;
+                    pending = 0;
+                }
+            }
+            if (ops != null && pending > 0) {
+                updated += ops.execute().getModifiedCount();
+            }
+        } catch (Exception e) {
+            log.error("calendar bucket backfill stopped after {} documents", updated, e);
+            return updated;
+        }
+
+        if (updated > 0) log.info("calendar bucket backfill updated {} documents", updated);
+        return updated;
+    }
+}
@@ -0,0 +1,199 @@
+package org.dallyeo.matuabom.service;
+
+import org.dallyeo.matuabom.domain.CalendarChange;
+import org.dallyeo.matuabom.domain.CalendarVersion;
+import org.dallyeo.matuabom.dto.CalendarChangesRes;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.CalendarSignal;
+import org.dallyeo.matuabom.dto.EventChangeSet;
+import org.dallyeo.matuabom.repository.CalendarChangeRepository;
+import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 유저별 일정 변경 로그 + 버전
+ * - GoogleCalendarService 의 모든 쓰기 경로가 recordWrite 로 남긴다 (한 번의 쓰기 = 버전 1 증가)
+ *   app.change-stream.enabled 면 대신 CalendarEventChangeWatcher 가 tick 단위로 append
+ * - 버전은 유저별로 연속 증가 → SSE 이벤트 id / GET /api/calendar/changes?since= 의 커서로 같이 쓴다
+ * - append 후 backplane 으로 변경 신호를 보낸다 (각 인스턴스에서 캐시 무효화 + SSE 알림)
+ * - 버전 증가($inc)와 로그 insert 는 원자적이지 않다 → 요청 스레드 v1 / 워커 v2 가 동시에 쓰면
+ *   v2 로그가 먼저 보일 수 있으므로, changesSince 는 빈 버전이 없는 곳까지만 커서를 옮긴다
+ */
+@Service
+public class CalendarChangeLogService {
+
+    private final CalendarChangeRepository changes;
+    private final CalendarEventRepository events;
+    private final MongoTemplate mongoTemplate;
+    private final CalendarBackplane backplane;
+    private final int maxChanges;
+    private final boolean streamDriven;
+    private final long gapGraceMillis;
+
+    public CalendarChangeLogService(
+            CalendarChangeRepository changes,
+            CalendarEventRepository events,
+            MongoTemplate mongoTemplate,
+            CalendarBackplane backplane,
+            @Value("${app.calendar.changes.max-per-request:2000}") int maxChanges,
+            @Value("${app.change-stream.enabled:false}") boolean streamDriven,
+            @Value("${app.calendar.changes.gap-grace-ms:30000}") long gapGraceMillis
+    ) {
+        this.changes = changes;
+        this.events = events;
+        this.mongoTemplate = mongoTemplate;
+        this.backplane = backplane;
+        this.maxChanges = maxChanges;
+        this.streamDriven = streamDriven;
+        this.gapGraceMillis = gapGraceMillis;
+    }
+
+    /* ===========================
+     *  기록
+     * =========================== */
+
+    /**
+     * GoogleCalendarService 쓰기 경로에서 호출
+     * - change stream 모드면 CalendarEventChangeWatcher 가 실제 반영된 변경을 보고 append 하므로 여기선 생략
+     */
+    public void recordWrite(String userId, EventChangeSet changeSet) {
+        if (streamDriven) return;
+        append(userId, changeSet);
+    }
+
+    /**
+     * 변경분 기록 → 새 버전 리턴 (변경이 없으면 현재 버전 그대로)
+     */
+    public long append(String userId, EventChangeSet changeSet) {
+        if (changeSet.isEmpty()) return currentVersion(userId);
+
+        long version = nextVersion(userId);
+        Instant now = Instant.now();
+
+        List<CalendarChange> entries = new ArrayList<>(changeSet.size());
+        changeSet.created().forEach(id -> entries.add(entry(userId, version, id, CalendarChange.Op.UPSERT, now)));
+        changeSet.updated().forEach(id -> entries.add(entry(userId, version, id, CalendarChange.Op.UPSERT, now)));
+        changeSet.deleted().forEach(id -> entries.add(entry(userId, version, id, CalendarChange.Op.DELETE, now)));
+        changes.insert(entries);
+
+        // 🔥 모든 인스턴스에 알림 → 조회 캐시 무효화 + FE 에게 바뀐 id + 버전 (CalendarSignalDispatcher)
+        backplane.publish(new CalendarSignal(backplane.nodeId(), userId, version, changeSet));
+        return version;
+    }
+
+    public long currentVersion(String userId) {
+        CalendarVersion v = mongoTemplate.findById(userId, CalendarVersion.class);
+        return v == null ? 0L : v.getVersion();
+    }
+
+    /**
+     * 버전 받은 뒤 로그가 아직 없는 구간이 gap-grace 이상 지났으면
+     * 그 사이 쓰기가 실패(프로세스 종료 등)한 것 → 따라잡을 수 없으므로 resync
+     */
+    private boolean gapExpired(Instant allocatedAt) {
+        return allocatedAt != null && allocatedAt.isBefore(Instant.now().minusMillis(gapGraceMillis));
+    }
+
+    private long nextVersion(String userId) {
+        CalendarVersion v = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(userId)),
+                new Update().inc("version", 1).set("updatedAt", Instant.now()),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                CalendarVersion.class
+        );
+        return v.getVersion();
+    }
+
+    private CalendarChange entry(String userId, long version, String eventId, CalendarChange.Op op, Instant at) {
+        CalendarChange c = new CalendarChange();
+        c.setUserId(userId);
+        c.setVersion(version);
+        c.setEventId(eventId);
+        c.setOp(op);
+        c.setAt(at);
+        return c;
+    }
+
+    /* ===========================
+     *  조회
+     * =========================== */
+
+    /**
+     * since 이후 변경분
+     * - 같은 일정이 여러 번 바뀌었으면 마지막 것만 (UPSERT 는 현재 본문, DELETE 는 id 만)
+     * - since 가 로그 보관 기간 밖이거나, 변경이 max-per-request 를 넘으면 resyncRequired
+     * - 아직 로그가 안 써진 버전(빈 버전)이 있으면 그 바로 앞 버전까지만 돌려준다
+     *   → 클라이언트 커서가 빠진 변경을 건너뛰지 않는다 (나머지는 다음 조회/SSE 에서)
+     */
+    public CalendarChangesRes changesSince(String userId, long since) {
+        CalendarVersion counter = mongoTemplate.findById(userId, CalendarVersion.class);
+        long current = counter == null ? 0L : counter.getVersion();
+        if (since == current) return new CalendarChangesRes(current, false, List.of(), List.of());
+        if (since > current || since < 0) return CalendarChangesRes.resync(current);
+
+        // TTL 로 잘려나간 구간이 있는지
+        Optional<CalendarChange> oldest = changes.findFirstByUserIdOrderByVersionAsc(userId);
+        if (oldest.isEmpty() || oldest.get().getVersion() > since + 1) {
+            return CalendarChangesRes.resync(current);
+        }
+
+        List<CalendarChange> log = changes.findByUserIdAndVersionGreaterThanAndVersionLessThanEqualOrderByVersionAsc(
+                userId, since, current, PageRequest.of(0, maxChanges + 1));
+        if (log.size() > maxChanges) return CalendarChangesRes.resync(current);
+
+        // 빈 버전 없이 이어지는 곳까지만
+        long contiguous = since;
+        int end = 0;
+        for (; end < log.size(); end++) {
+            CalendarChange c = log.get(end);
+            if (c.getVersion() > contiguous + 1) {
+                if (c.getAt() != null && gapExpired(c.getAt())) return CalendarChangesRes.resync(current);
+                break;
+            }
+            contiguous = c.getVersion();
+        }
+        if (end == log.size() && contiguous < current && gapExpired(counter.getUpdatedAt())) {
+            return CalendarChangesRes.resync(current);
+        }
+        log = log.subList(0, end);
+        if (log.isEmpty()) return new CalendarChangesRes(contiguous, false, List.of(), List.of());
+
+        Map<String, CalendarChange.Op> last = new LinkedHashMap<>();
+        for (CalendarChange c : log) {
+            last.remove(c.getEventId()); // 순서를 마지막 변경 기준으로
+            last.put(c.getEventId(), c.getOp());
+        }
+
+        List<String> upsertIds = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        last.forEach((id, op) -> (op == CalendarChange.Op.UPSERT ? upsertIds : deletes).add(id));
+
+        List<CalendarEventDto> upserts = upsertIds.isEmpty()
+                ? List.of()
+                : events.findByUserEmailAndIdIn(userId, upsertIds);
+
+        // 로그엔 UPSERT 인데 문서가 없으면 그사이 지워진 것 → tombstone
+        if (upserts.size() < upsertIds.size()) {
+            Set<String> found = upserts.stream().map(CalendarEventDto::getId).collect(Collectors.toSet());
+            upsertIds.stream().filter(id -> !found.contains(id)).forEach(deletes::add);
+        }
+
+        return new CalendarChangesRes(contiguous, false, upserts, deletes);
+    }
+}
@@ -0,0 +1,290 @@
+package org.dallyeo.matuabom.service;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.EventChangeSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * calendar_events change stream → 유저별 변경 로그 (app.change-stream.enabled)
+ * - insert / update / replace / delete 를 유저별로 모아서 tick(flush-interval-ms) 마다 한 번씩 append
+ * - 켜져 있으면 GoogleCalendarService 쓰기 경로의 recordWrite 는 아무것도 안 하고 여기서만 기록
+ *   → 어느 인스턴스 / 외부 도구가 쓴 것이든 실제로 반영된 뒤에만 알림이 나간다
+ * - resume token 은 flush 후 change_stream_state 에 저장 (재시작 시 이어서, 최소 1회 전달)
+ * - 여러 인스턴스 중 lease 를 잡은 하나만 watch
+ * - delete 의 userEmail 은 pre-image 로 얻는다 (시작 시 collMod 로 켜 봄, Mongo 6+)
+ */
+@Slf4j
+@Component
+public class CalendarEventChangeWatcher implements ApplicationRunner {
+
+    private static final String STATE_COLLECTION = "change_stream_state";
+    private static final String STATE_ID = "calendar_events";
+
+    private final MongoTemplate mongoTemplate;
+    private final CalendarChangeLogService changeLog;
+    private final boolean enabled;
+    private final long flushIntervalMs;
+    private final Duration lease;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread watcher;
+
+    public CalendarEventChangeWatcher(
+            MongoTemplate mongoTemplate,
+            CalendarChangeLogService changeLog,
+            @Value("${app.change-stream.enabled:false}") boolean enabled,
+            @Value("${app.change-stream.flush-interval-ms:500}") long flushIntervalMs,
+            @Value("${app.change-stream.lease-seconds:30}") long leaseSeconds
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.changeLog = changeLog;
+        this.enabled = enabled;
+        this.flushIntervalMs = flushIntervalMs;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) return;
+
+        enablePreImages();
+        running = true;
+        watcher = Thread.ofVirtual().name("calendar-events-watch").start(this::watchLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (watcher != null) watcher.interrupt();
+    }
+
+    /* ===========================
+     *  watch loop
+     * =========================== */
+
+    private void watchLoop() {
+        long backoffMs = 500;
+
+        while (running) {
+            if (!acquireLease()) {
+                sleep(lease.toMillis() / 2);
+                continue;
+            }
+
+            try {
+                watchWhileLeader();
+                backoffMs = 500;
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == 286 || e.getErrorCode() == 280) {
+                    // oplog 에서 resume 지점이 사라짐 → 지금부터 다시 (그사이 변경은 재연결 시 full 갱신으로)
+                    log.warn("calendar_events resume token is no longer valid, restarting from now", e);
+                    saveResumeToken(null);
+                } else {
+                    log.warn("calendar_events change stream failed, retrying in {}ms", backoffMs, e);
+                    sleep(backoffMs);
+                    backoffMs = Math.min(backoffMs * 2, 30_000);
+                }
+            } catch (MongoException | IllegalStateException e) {
+                if (!running) return;
+                log.warn("calendar_events change stream failed, retrying in {}ms", backoffMs, e);
+                sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, 30_000);
+            }
+        }
+    }
+
+    private void watchWhileLeader() {
+        String collection = mongoTemplate.getCollectionName(CalendarEventDto.class);
+
+        ChangeStreamIterable<Document> stream = mongoTemplate.getCollection(collection)
+                .watch(List.of(
+                        Aggregates.match(Filters.in("operationType", "insert", "update", "replace", "delete")),
+                        // userEmail 만 남긴다 (_id = resume token 은 자동 유지)
+                        Aggregates.project(Projections.include(
+                                "operationType", "documentKey",
+                                "fullDocument.userEmail", "fullDocumentBeforeChange.userEmail"))
+                ))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE)
+                .maxAwaitTime(flushIntervalMs, TimeUnit.MILLISECONDS);
+
+        BsonDocument resumeToken = loadResumeToken();
+        if (resumeToken != null) stream = stream.resumeAfter(resumeToken);
+
+        Map<String, Batch> pending = new LinkedHashMap<>();
+        long nextFlush = System.currentTimeMillis() + flushIntervalMs;
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    accumulate(pending, change);
+                    resumeToken = change.getResumeToken();
+                }
+
+                if (System.currentTimeMillis() >= nextFlush) {
+                    flush(pending);
+                    if (resumeToken != null) saveResumeToken(resumeToken);
+                    nextFlush = System.currentTimeMillis() + flushIntervalMs;
+
+                    if (!acquireLease()) return; // 다른 인스턴스가 가져감
+                }
+            }
+            flush(pending);
+            if (resumeToken != null) saveResumeToken(resumeToken);
+        }
+    }
+
+    private void accumulate(Map<String, Batch> pending, ChangeStreamDocument<Document> change) {
+        if (change.getDocumentKey() == null || !change.getDocumentKey().isString("_id")) return;
+        String id = change.getDocumentKey().getString("_id").getValue();
+
+        Document doc = change.getFullDocument() != null
+                ? change.getFullDocument()
+                : change.getFullDocumentBeforeChange();
+        String userId = doc == null ? null : doc.getString("userEmail");
+        if (userId == null) {
+            log.debug("calendar_events change for {} has no owner (pre-images disabled?)", id);
+            return;
+        }
+
+        Batch batch = pending.computeIfAbsent(userId, k -> new Batch());
+        switch (change.getOperationTypeString()) {
+            case "insert" -> batch.upsert(id, true);
+            case "update", "replace" -> batch.upsert(id, false);
+            case "delete" -> batch.delete(id);
+            default -> { }
+        }
+    }
+
+    private void flush(Map<String, Batch> pending) {
+        pending.forEach((userId, batch) -> {
+            try {
+                changeLog.append(userId, batch.toChangeSet());
+            } catch (RuntimeException e) {
+                log.warn("change log append failed for user {}", userId, e);
+            }
+        });
+        pending.clear();
+    }
+
+    /**
+     * 한 tick 동안 한 유저의 변경 (같은 일정은 마지막 상태로 합침)
+     */
+    private static final class Batch {
+        private final Set<String> created = new LinkedHashSet<>();
+        private final Set<String> updated = new LinkedHashSet<>();
+        private final Set<String> deleted = new LinkedHashSet<>();
+
+        void upsert(String id, boolean insert) {
+            deleted.remove(id);
+            if (insert) created.add(id);
+            else if (!created.contains(id)) updated.add(id);
+        }
+
+        void delete(String id) {
+            // 이번 tick 에 생겼다가 지워진 것도 delete 로 보낸다 (이미 본 클라이언트가 있을 수 있음)
+            created.remove(id);
+            updated.remove(id);
+            deleted.add(id);
+        }
+
+        EventChangeSet toChangeSet() {
+            return new EventChangeSet(new ArrayList<>(created), new ArrayList<>(updated), new ArrayList<>(deleted));
+        }
+    }
+
+    /* ===========================
+     *  lease / resume token (change_stream_state)
+     * =========================== */
+
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Query query = Query.query(new Criteria().andOperator(
+                Criteria.where("_id").is(STATE_ID),
+                new Criteria().orOperator(
+                        Criteria.where("owner").is(nodeId),
+                        Criteria.where("owner").exists(false),
+                        Criteria.where("leaseExpiresAt").lt(now)
+                )));
+        Update update = new Update().set("owner", nodeId).set("leaseExpiresAt", now.plus(lease));
+
+        try {
+            return mongoTemplate.findAndModify(query, update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    Document.class, STATE_COLLECTION) != null;
+        } catch (DuplicateKeyException e) {
+            return false; // 다른 인스턴스가 잡고 있음
+        }
+    }
+
+    private BsonDocument loadResumeToken() {
+        Document state = mongoTemplate.findById(STATE_ID, Document.class, STATE_COLLECTION);
+        Document token = state == null ? null : state.get("resumeToken", Document.class);
+        return token == null ? null : BsonDocument.parse(token.toJson());
+    }
+
+    private void saveResumeToken(BsonDocument token) {
+        Update update = token == null
+                ? new Update().unset("resumeToken")
+                : new Update().set("resumeToken", Document.parse(token.toJson()));
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(STATE_ID).and("owner").is(nodeId)),
+                update.set("resumeTokenAt", Instant.now()),
+                STATE_COLLECTION);
+    }
+
+    private void enablePreImages() {
+        try {
+            mongoTemplate.getDb().runCommand(new Document("collMod",
+                    mongoTemplate.getCollectionName(CalendarEventDto.class))
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        } catch (MongoException e) {
+            log.warn("could not enable change stream pre-images on calendar_events; deletes may not be notified", e);
+        }
+    }
+
+    private void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
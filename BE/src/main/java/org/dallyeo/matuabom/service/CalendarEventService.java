@@ -1,17 +1,37 @@
 package org.dallyeo.matuabom.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.dto.CalendarChangesRes;
 import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
+import org.dallyeo.matuabom.dto.EventPageRes;
+import org.dallyeo.matuabom.dto.GroupAvailabilityRes;
 import org.dallyeo.matuabom.dto.CreateEventReq;
 import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.dallyeo.matuabom.util.FreeSlotFinder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,7 +42,13 @@ public class CalendarEventService {
     private final GoogleCalendarService googleCalendarService;
     private final GoogleCalendarQueryService googleCalendarQueryService;
     private final GoogleSyncService googleSyncService;
-    private final EventSseService eventSseService;
+    private final CalendarChangeLogService changeLog;
+    private final GroupAvailabilityService groupAvailabilityService;
+
+    private final ObjectMapper objectMapper;
+
+    private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+    private static final int MAX_PAGE_SIZE = 1000;
 
     private String userId() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -40,9 +66,156 @@ public class CalendarEventService {
     // ==================================================
     // 조회
     // ==================================================
-    public List<CalendarEventDto> getEvents() {
+    /**
+     * 기간 조회 (start/end 둘 다 있으면 겹치는 일정, 아니면 전체)
+     * - start/end: yyyy-MM-dd / ISO-8601 / epoch millis
+     */
+    public List<CalendarEventDto> getEvents(String start, String end) {
+        return googleCalendarQueryService.query(userId(), toEpochMillis(start), toEpochMillis(end));
+    }
+
+    /** 그리드용 compact 조회 (getEvents 와 같은 조건) */
+    public CompactEventsRes getCompactEvents(String start, String end) {
+        return googleCalendarQueryService.queryCompact(userId(), toEpochMillis(start), toEpochMillis(end));
+    }
+
+    /**
+     * 커서 페이지 조회 ((startTimestamp, id) keyset)
+     * - pageToken 은 직전 페이지 마지막 일정의 (startTimestamp, id) 를 base64url 로 감싼 값
+     * - limit + 1 개를 읽어서 다음 페이지 존재 여부를 판단
+     */
+    public EventPageRes getEventPage(String start, String end, int pageSize, String pageToken) {
+        int limit = Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
+
+        Long afterStart = null;
+        String afterId = null;
+        if (pageToken != null && !pageToken.isBlank()) {
+            String[] cursor = decodePageToken(pageToken);
+            afterStart = Long.parseLong(cursor[0]);
+            afterId = cursor[1];
+        }
+
+        List<CalendarEventDto> rows = repository.findPage(
+                userId(), toEpochMillis(start), toEpochMillis(end), afterStart, afterId, limit + 1);
+
+        if (rows.size() <= limit) return new EventPageRes(rows, null);
+
+        List<CalendarEventDto> items = rows.subList(0, limit);
+        CalendarEventDto last = items.get(limit - 1);
+        return new EventPageRes(items, encodePageToken(last.getStartTimestamp(), last.getId()));
+    }
+
+    /**
+     * Mongo 커서에서 읽는 대로 바로 응답에 쓰는 스트리밍 조회
+     * - format = ndjson(기본, 한 줄에 일정 하나) | json (배열)
+     * - 메모리에는 커서 batch 하나만 올라간다
+     */
+    public StreamingResponseBody streamEvents(String start, String end, String format) {
+        // 스트리밍은 다른 스레드에서 돌기 때문에 유저/기간은 미리 확정
         String uid = userId();
-        return googleCalendarQueryService.listAllEvents(uid);
+        Long startTs = toEpochMillis(start);
+        Long endTs = toEpochMillis(end);
+        boolean jsonArray = "json".equalsIgnoreCase(format);
+
+        return out -> {
+            try (Stream<CalendarEventDto> events = repository.streamByUserEmail(uid, startTs, endTs);
+                 JsonGenerator gen = objectMapper.createGenerator(out)) {
+
+                if (jsonArray) {
+                    gen.writeStartArray();
+                    events.forEach(ev -> writeUnchecked(gen, ev));
+                    gen.writeEndArray();
+                } else {
+                    gen.setRootValueSeparator(new SerializedString("\n"));
+                    events.forEach(ev -> writeUnchecked(gen, ev));
+                    gen.writeRaw('\n');
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    private void writeUnchecked(JsonGenerator gen, CalendarEventDto ev) {
+        try {
+            gen.writeObject(ev);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String encodePageToken(Long startTs, String id) {
+        String raw = (startTs == null ? 0L : startTs) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodePageToken(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            if (sep <= 0 || sep == raw.length() - 1) throw new IllegalArgumentException();
+            Long.parseLong(raw.substring(0, sep));
+            return new String[]{raw.substring(0, sep), raw.substring(sep + 1)};
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid pageToken");
+        }
+    }
+
+    private Long toEpochMillis(String s) {
+        if (s == null || s.isBlank()) return null;
+
+        String t = s.trim();
+        try {
+            if (t.chars().allMatch(Character::isDigit)) return Long.parseLong(t);
+            if (t.length() == 10) return LocalDate.parse(t).atStartOfDay(DEFAULT_ZONE).toInstant().toEpochMilli();
+
+            try {
+                return OffsetDateTime.parse(t).toInstant().toEpochMilli();
+            } catch (DateTimeParseException ignore) {}
+
+            try {
+                return Instant.parse(t).toEpochMilli();
+            } catch (DateTimeParseException ignore) {}
+
+            return LocalDateTime.parse(t).atZone(DEFAULT_ZONE).toInstant().toEpochMilli();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid date: " + s);
+        }
+    }
+
+    /**
+     * 나 + userIds 공통 빈 시간
+     * - workStart / workEnd (HH:mm) 는 둘 다 있을 때만 적용, 기준 시간대는 DEFAULT_ZONE
+     */
+    public GroupAvailabilityRes getGroupAvailability(List<String> userIds, String start, String end, int minMinutes,
+                                                     String workStart, String workEnd,
+                                                     boolean weekdaysOnly, boolean includeAllDay) {
+        Long from = toEpochMillis(start);
+        Long to = toEpochMillis(end);
+        if (from == null || to == null) throw new IllegalArgumentException("start and end are required");
+
+        FreeSlotFinder.WorkingHours hours = null;
+        if (workStart != null && workEnd != null) {
+            try {
+                hours = new FreeSlotFinder.WorkingHours(
+                        LocalTime.parse(workStart), LocalTime.parse(workEnd), DEFAULT_ZONE, weekdaysOnly);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("invalid working hours: " + workStart + " ~ " + workEnd);
+            }
+        } else if (weekdaysOnly) {
+            hours = new FreeSlotFinder.WorkingHours(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, DEFAULT_ZONE, true);
+        }
+
+        return groupAvailabilityService.findCommonFreeSlots(
+                userId(), userIds, from, to, Math.max(minMinutes, 1) * 60_000L, hours, includeAllDay);
+    }
+
+    /**
+     * since 버전 이후 바뀐 일정만 (FE 증분 조회용)
+     * - FE 알림(SSE)은 GoogleCalendarService 쓰기 경로에서 변경 로그를 남길 때 같이 나간다
+     */
+    public CalendarChangesRes getChangesSince(long since) {
+        return changeLog.changesSince(userId(), since);
     }
 
     // ==================================================
@@ -61,9 +234,6 @@ public class CalendarEventService {
             googleSyncService.syncCreateAsync(uid, req);
         }
 
-        // 3) 🔥 FE 에게 “이벤트 변경” 알림
-        eventSseService.sendEventsUpdated();
-
         return saved;
     }
 
@@ -80,16 +250,13 @@ public class CalendarEventService {
                 .orElseThrow(() -> new IllegalArgumentException("event not found or not owner"));
 
         // 1) 로컬 DB 업데이트
-        CalendarEventDto updated = googleCalendarService.updateLocalEvent(eventId, req, uid);
+        CalendarEventDto updated = googleCalendarService.updateLocalEvent(eventId, req);
 
         // 2) 구글 연동된 유저면 비동기로 구글 일정도 수정
         if (googleTokens.isLinked(uid)) {
             googleSyncService.syncUpdateAsync(uid, eventId, req);
         }
 
-        // 3) 🔥 FE 알림
-        eventSseService.sendEventsUpdated();
-
         return updated;
     }
 
@@ -111,8 +278,5 @@ public class CalendarEventService {
         if (googleTokens.isLinked(uid)) {
             googleSyncService.syncDeleteAsync(uid, eventId);
         }
-
-        // 3) 🔥 FE 알림
-        eventSseService.sendEventsUpdated();
     }
 }
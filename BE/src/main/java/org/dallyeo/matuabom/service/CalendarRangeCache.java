@@ -0,0 +1,213 @@
+package org.dallyeo.matuabom.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.EventChangeSet;
+import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.dallyeo.matuabom.util.EventBuckets;
+import org.dallyeo.matuabom.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 유저별 월(month) 단위 일정 캐시
+ * - 키 = (userId, 월 버킷), 값 = 그 달과 겹치는 일정 목록 (LRU, max-months 개)
+ * - 기간 조회는 걸친 달들을 캐시에서 꺼내 합친 뒤 실제 기간으로 다시 거른다
+ * - 무효화는 CalendarChangeLogService.append → backplane → CalendarSignalDispatcher 경로로
+ *   (모든 쓰기 경로, 모든 인스턴스) 바뀐 일정이 들어 있던 달 + 새로 걸치게 된 달만 지운다
+ */
+@Component
+public class CalendarRangeCache {
+
+    private static final Comparator<CalendarEventDto> BY_START = Comparator
+            .comparing(CalendarEventDto::getStartTimestamp, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(CalendarEventDto::getId);
+
+    private final CalendarEventRepository repository;
+    private final LruCache<MonthKey, List<CalendarEventDto>> months;
+    private final int maxMonthsPerQuery;
+    private final int bulkInvalidateThreshold;
+
+    /** 유저별로 캐시에 올라간 달 (무효화 때 전체 LRU 를 훑지 않고 그 유저 키만 본다) */
+    private final ConcurrentMap<String, Set<Integer>> monthsByUser = new ConcurrentHashMap<>();
+
+    /** 유저별 무효화 세대 (로딩 중에 무효화가 끼면 로딩 결과를 캐시에 넣지 않는다) */
+    private final ConcurrentMap<String, Long> generations = new ConcurrentHashMap<>();
+
+    public CalendarRangeCache(
+            CalendarEventRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${app.calendar.cache.max-months:5000}") int maxMonths,
+            @Value("${app.calendar.cache.max-months-per-query:3}") int maxMonthsPerQuery,
+            @Value("${app.calendar.cache.bulk-invalidate-threshold:200}") int bulkInvalidateThreshold
+    ) {
+        this.repository = repository;
+        this.months = new LruCache<>(maxMonths, (key, events) -> unindex(key));
+        this.maxMonthsPerQuery = maxMonthsPerQuery;
+        this.bulkInvalidateThreshold = bulkInvalidateThreshold;
+
+        FunctionCounter.builder("calendar.range.cache.requests", months, LruCache::hits)
+                .tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("calendar.range.cache.requests", months, LruCache::misses)
+                .tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("calendar.range.cache.evictions", months, LruCache::evictions)
+                .register(meterRegistry);
+        Gauge.builder("calendar.range.cache.size", months, LruCache::size)
+                .register(meterRegistry);
+    }
+
+    /* ===========================
+     *  조회
+     * =========================== */
+
+    /** 캐시로 처리할 수 있는 기간인지 (걸친 달 수가 max-months-per-query 이하) */
+    public boolean covers(long rangeStart, long rangeEnd) {
+        List<Integer> buckets = EventBuckets.forRange(rangeStart, rangeEnd);
+        return buckets != null && buckets.size() - 1 <= maxMonthsPerQuery;
+    }
+
+    /**
+     * [rangeStart, rangeEnd) 과 겹치는 일정 (startTimestamp, id 오름차순)
+     * - covers() 가 true 인 기간만 넘길 것
+     */
+    public List<CalendarEventDto> query(String userId, long rangeStart, long rangeEnd) {
+        Map<String, CalendarEventDto> merged = new LinkedHashMap<>();
+
+        for (int month = EventBuckets.monthOf(rangeStart);
+             month <= EventBuckets.monthOf(Math.max(rangeStart, rangeEnd - 1));
+             month++) {
+            for (CalendarEventDto e : month(userId, month)) {
+                merged.putIfAbsent(e.getId(), e);
+            }
+        }
+
+        List<CalendarEventDto> result = new ArrayList<>(merged.size());
+        for (CalendarEventDto e : merged.values()) {
+            if (e.getStartTimestamp() < rangeEnd && e.getEndTimestamp() > rangeStart) result.add(e);
+        }
+        result.sort(BY_START);
+        return result;
+    }
+
+    private List<CalendarEventDto> month(String userId, int month) {
+        MonthKey key = new MonthKey(userId, month);
+        List<CalendarEventDto> cached = months.get(key);
+        if (cached != null) return cached;
+
+        long generation = generations.getOrDefault(userId, 0L);
+
+        YearMonth ym = YearMonth.of(month / 12, month % 12 + 1);
+        long from = ym.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+        long to = ym.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+        List<CalendarEventDto> loaded = List.copyOf(repository.findOverlappingByBuckets(
+                userId, List.of(month, EventBuckets.LONG_BUCKET), from, to));
+
+        // 로딩하는 사이 이 유저 일정이 바뀌었으면 캐시에 넣지 않는다
+        synchronized (this) {
+            if (generations.getOrDefault(userId, 0L) == generation) {
+                index(key);
+                months.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /* ===========================
+     *  무효화
+     * =========================== */
+
+    /**
+     * 쓰기 직후 호출
+     * - 바뀐 일정을 들고 있던 달 (이전 위치) + 생성/수정된 일정이 지금 걸친 달 (새 위치) 만 제거
+     * - 변경이 많거나(전체 동기화) 아주 긴 일정이 끼어 있으면 그 유저 캐시 전체 제거
+     */
+    public void invalidate(String userId, EventChangeSet changes) {
+        synchronized (this) {
+            generations.merge(userId, 1L, Long::sum);
+        }
+
+        if (changes.size() > bulkInvalidateThreshold) {
+            evictUser(userId);
+            return;
+        }
+
+        Set<String> ids = new HashSet<>();
+        ids.addAll(changes.created());
+        ids.addAll(changes.updated());
+        ids.addAll(changes.deleted());
+
+        Set<Integer> newMonths = new HashSet<>();
+        Collection<String> upserted = new ArrayList<>(changes.created());
+        upserted.addAll(changes.updated());
+        if (!upserted.isEmpty()) {
+            for (CalendarEventDto e : repository.findByUserEmailAndIdIn(userId, upserted)) {
+                List<Integer> buckets = EventBuckets.of(e.getStartTimestamp(), e.getEndTimestamp());
+                if (buckets.contains(EventBuckets.LONG_BUCKET)) {
+                    evictUser(userId);
+                    return;
+                }
+                newMonths.addAll(buckets);
+            }
+        }
+
+        for (MonthKey key : cachedKeys(userId)) {
+            List<CalendarEventDto> events = months.peek(key);
+            if (events == null
+                    || newMonths.contains(key.month())
+                    || events.stream().anyMatch(e -> ids.contains(e.getId()))) {
+                drop(key);
+            }
+        }
+    }
+
+    public void evictUser(String userId) {
+        for (MonthKey key : cachedKeys(userId)) {
+            drop(key);
+        }
+    }
+
+    /** 캐시 + 인덱스를 같이 (month() 의 put 과 섞이지 않게) */
+    private synchronized void drop(MonthKey key) {
+        months.remove(key);
+        unindex(key);
+    }
+
+    private List<MonthKey> cachedKeys(String userId) {
+        Set<Integer> cached = monthsByUser.get(userId);
+        if (cached == null) return List.of();
+        return cached.stream().map(month -> new MonthKey(userId, month)).toList();
+    }
+
+    private void index(MonthKey key) {
+        monthsByUser.compute(key.userId(), (k, set) -> {
+            Set<Integer> s = set != null ? set : ConcurrentHashMap.newKeySet();
+            s.add(key.month());
+            return s;
+        });
+    }
+
+    private void unindex(MonthKey key) {
+        monthsByUser.computeIfPresent(key.userId(), (k, set) -> {
+            set.remove(key.month());
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private record MonthKey(String userId, int month) {}
+}
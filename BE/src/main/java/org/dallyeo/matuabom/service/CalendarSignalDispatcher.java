@@ -0,0 +1,29 @@
+package org.dallyeo.matuabom.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.dallyeo.matuabom.dto.CalendarSignal;
+import org.springframework.stereotype.Component;
+
+/**
+ * backplane 으로 받은 일정 변경 신호를 이 인스턴스에 반영
+ * - 조회 캐시 무효화 → SSE events-updated 전송 (다시 조회할 때 새 값이 보이도록 이 순서)
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarSignalDispatcher {
+
+    private final CalendarBackplane backplane;
+    private final CalendarRangeCache rangeCache;
+    private final EventSseService eventSseService;
+
+    @PostConstruct
+    void register() {
+        backplane.subscribe(this::onSignal);
+    }
+
+    void onSignal(CalendarSignal signal) {
+        rangeCache.invalidate(signal.userId(), signal.changes());
+        eventSseService.sendEventsUpdated(signal.userId(), signal.version(), signal.changes());
+    }
+}
@@ -1,52 +1,306 @@
 package org.dallyeo.matuabom.service;
 
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.dto.CalendarChangesRes;
+import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.EventChangeSet;
+import org.dallyeo.matuabom.dto.EventsUpdatedPayload;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 유저별 SSE 연결 관리 + 비동기 fan-out
+ * - emitter 는 userId 별로 등록 → 변경 알림은 해당 유저 연결에만 보낸다
+ * - 전송은 호출 스레드가 아니라 sseFanoutExecutor 에서 실행
+ * - 연결마다 작은 큐를 두고, 큐가 넘치면(느린 클라이언트) 연결을 끊는다
+ * - "events-updated" 는 바뀐 id 목록 + version 을 담고, 최근 replay-buffer-size 개는
+ *   재연결 시 Last-Event-ID 이후 것만 다시 보내준다
+ * - 버퍼로 못 이어주면(버퍼 밖 / 연결이 다 끊겼다 다시 붙음) 변경 로그(changesSince)에서 따라잡는다
+ * - version 은 CalendarChangeLogService 의 유저별 버전 (GET /api/calendar/changes?since= 와 같은 값)
+ */
+@Slf4j
 @Service
 public class EventSseService {
 
     // 1시간짜리 SSE 연결
     private static final long DEFAULT_TIMEOUT = 60L * 60 * 1000L;
 
-    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final CalendarChangeLogService changeLog;
+    private final Executor fanoutExecutor;
+    private final int clientQueueCapacity;
+    private final int replayBufferSize;
+    private final int maxIdsPerEvent;
+
+    private final ConcurrentMap<String, UserChannel> channels = new ConcurrentHashMap<>();
+
+    public EventSseService(
+            CalendarChangeLogService changeLog,
+            @Qualifier("sseFanoutExecutor") Executor fanoutExecutor,
+            @Value("${app.sse.client-queue-capacity:16}") int clientQueueCapacity,
+            @Value("${app.sse.replay-buffer-size:64}") int replayBufferSize,
+            @Value("${app.sse.max-ids-per-event:500}") int maxIdsPerEvent
+    ) {
+        this.changeLog = changeLog;
+        this.fanoutExecutor = fanoutExecutor;
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.replayBufferSize = replayBufferSize;
+        this.maxIdsPerEvent = maxIdsPerEvent;
+    }
 
     /**
      * 클라이언트가 /api/sse/events 로 구독할 때 호출
+     * - lastEventId 가 있으면 그 이후 변경분을 replay, 버퍼 밖이면 변경 로그에서 따라잡기
      */
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(String userId, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitters.add(emitter);
+        SseClient client = new SseClient(userId, emitter);
 
-        emitter.onCompletion(() -> emitters.remove(emitter));
-        emitter.onTimeout(() -> emitters.remove(emitter));
-        emitter.onError((ex) -> emitters.remove(emitter));
+        emitter.onCompletion(() -> unregister(client));
+        emitter.onTimeout(() -> unregister(client));
+        emitter.onError((ex) -> unregister(client));
 
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connected")
-                    .data("connected"));
-        } catch (IOException ignored) {
+        client.enqueue(SseEmitter.event().name("connected").data("connected"));
+
+        Long resumeFrom = parseVersion(lastEventId);
+
+        // 락 순서: channel 모니터 → map (unregister 와 동일)
+        UserChannel channel;
+        boolean joined;
+        while (true) {
+            channel = channels.computeIfAbsent(userId, k -> new UserChannel());
+            synchronized (channel) {
+                if (channels.get(userId) != channel) continue; // 방금 제거된 채널 → 다시
+                joined = resumeFrom == null || channel.replay(client, resumeFrom);
+                if (joined) {
+                    channel.clients.add(client);
+                } else {
+                    channel.resuming++;   // 따라잡는 동안 채널(버퍼)이 지워지지 않게
+                }
+                break;
+            }
         }
 
+        if (!joined) catchUpFromLog(channel, client, resumeFrom);
         return emitter;
     }
 
     /**
-     * BE에서 “일정이 변경되었다”는 신호를 날릴 때 호출
+     * replay 버퍼로 못 이어줄 때 변경 로그에서 lastVersion 이후 변경분을 보낸다
+     * - 로그 조회는 락 밖에서, 그동안 들어온 이벤트는 채널 버퍼에 쌓였다가 조회 결과 뒤에 이어서 보낸다
+     * - 로그로도 안 되면(resync / 너무 많음 / 조회 실패) full 갱신
+     */
+    private void catchUpFromLog(UserChannel channel, SseClient client, long lastVersion) {
+        CalendarChangesRes res;
+        try {
+            res = changeLog.changesSince(client.userId, lastVersion);
+        } catch (Exception e) {
+            log.warn("could not load calendar changes for SSE resume of user {}", client.userId, e);
+            res = null;
+        }
+
+        synchronized (channel) {
+            channel.resuming--;
+            channel.clients.add(client);
+
+            boolean usable = res != null
+                    && !res.resyncRequired()
+                    && res.upserts().size() + res.deletes().size() <= maxIdsPerEvent
+                    && (channel.recent.isEmpty() || res.version() >= channel.floor);
+            if (!usable) {
+                long latest = Math.max(res == null ? lastVersion : res.version(), channel.latest(lastVersion));
+                client.enqueue(toEvent(EventsUpdatedPayload.fullRefresh(latest)));
+                return;
+            }
+
+            if (res.version() > lastVersion) {
+                List<String> upserts = res.upserts().stream().map(CalendarEventDto::getId).toList();
+                EventChangeSet changes = new EventChangeSet(List.of(), upserts, res.deletes());
+                client.enqueue(toEvent(EventsUpdatedPayload.of(res.version(), changes)));
+            }
+            // 조회하는 사이 들어온 것 (버퍼가 비었으면 보낼 것 없음)
+            if (!channel.recent.isEmpty()) channel.replay(client, res.version());
+        }
+    }
+
+    /**
+     * BE에서 “이 유저의 일정이 변경되었다”는 신호를 날릴 때 호출 (바로 리턴)
+     * - CalendarChangeLogService.append 에서 버전을 매긴 뒤 호출
      */
-    public void sendEventsUpdated() {
-        for (SseEmitter emitter : emitters) {
+    public void sendEventsUpdated(String userId, long version, EventChangeSet changes) {
+        if (changes.isEmpty()) return;
+
+        UserChannel channel = channels.get(userId);
+        if (channel == null) return;   // 연결된 클라이언트 없음 → 재연결 시 changes API 로 따라잡음
+
+        synchronized (channel) {
+            EventsUpdatedPayload payload = changes.size() > maxIdsPerEvent
+                    ? EventsUpdatedPayload.fullRefresh(version)
+                    : EventsUpdatedPayload.of(version, changes);
+
+            channel.remember(payload);
+            for (SseClient client : channel.clients) {
+                client.enqueue(toEvent(payload));
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(EventsUpdatedPayload payload) {
+        return SseEmitter.event()
+                .id(String.valueOf(payload.version()))
+                .name("events-updated")
+                .data(payload, MediaType.APPLICATION_JSON);
+    }
+
+    private Long parseVersion(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void unregister(SseClient client) {
+        UserChannel channel = channels.get(client.userId);
+        if (channel == null) return;
+
+        synchronized (channel) {
+            channel.clients.remove(client);
+            // 연결이 다 끊기면 replay 버퍼도 버린다 (다음 재연결은 변경 로그에서 따라잡음)
+            if (channel.clients.isEmpty() && channel.resuming == 0) channels.remove(client.userId, channel);
+        }
+    }
+
+    /**
+     * 유저 하나의 연결 목록 + 최근 변경 replay 버퍼
+     * - 변경/재연결은 channel 모니터 안에서 처리해서 순서가 섞이지 않게 한다
+     */
+    private final class UserChannel {
+
+        private final Set<SseClient> clients = ConcurrentHashMap.newKeySet();
+        private final Deque<EventsUpdatedPayload> recent = new ArrayDeque<>();
+
+        /** 변경 로그에서 따라잡는 중인 연결 수 (clients 에는 아직 없음) */
+        private int resuming;
+
+        /**
+         * 이 버전 이하는 버퍼에 없음 (밀려난 것)
+         * - 유저별 버전은 연속이므로 처음 받은 버전 v 의 바로 앞(v-1)까지는 이어서 보낼 수 있다
+         * - 아직 하나도 못 받았으면 알 수 없음 → 재연결은 변경 로그로
+         */
+        private long floor = Long.MAX_VALUE;
+
+        void remember(EventsUpdatedPayload payload) {
+            if (recent.isEmpty() && floor == Long.MAX_VALUE) floor = payload.version() - 1;
+            recent.addLast(payload);
+            while (recent.size() > replayBufferSize) {
+                floor = recent.removeFirst().version();
+            }
+        }
+
+        long latest(long fallback) {
+            return recent.isEmpty() ? fallback : recent.peekLast().version();
+        }
+
+        /**
+         * 버퍼에서 lastVersion 이후 것을 보낸다
+         * - 버퍼 밖이면 아무것도 안 보내고 false (→ 변경 로그로)
+         * - 한 번에 못 보낼 만큼 밀렸으면 full 갱신
+         */
+        boolean replay(SseClient client, long lastVersion) {
+            if (lastVersion < floor) return false;
+
+            long missed = recent.stream().filter(p -> p.version() > lastVersion).count();
+            if (missed > clientQueueCapacity - 1) {
+                client.enqueue(toEvent(EventsUpdatedPayload.fullRefresh(latest(lastVersion))));
+                return true;
+            }
+            for (EventsUpdatedPayload payload : recent) {
+                if (payload.version() > lastVersion) client.enqueue(toEvent(payload));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 연결 하나 + 보낼 메시지 큐
+     * - drain 은 한 번에 하나만 돌도록 draining 플래그로 보장
+     */
+    private final class SseClient {
+
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private SseClient(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+            // connected + 최소 1개는 들어가야 한다
+            this.queue = new ArrayBlockingQueue<>(Math.max(clientQueueCapacity, 2));
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) return;
+            if (!queue.offer(event)) {
+                // 못 따라오는 클라이언트 → 끊고 재연결하게 둔다 (Last-Event-ID 로 이어받음)
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                fanoutExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // drain 끝난 직후 들어온 메시지가 있으면 다시
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            queue.clear();
+            unregister(this);
             try {
-                emitter.send(SseEmitter.event()
-                        .name("events-updated")
-                        .data("ok"));
-            } catch (IOException e) {
                 emitter.complete();
+            } catch (Exception ignored) {
             }
         }
     }
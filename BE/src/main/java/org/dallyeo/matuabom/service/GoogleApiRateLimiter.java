@@ -0,0 +1,84 @@
+package org.dallyeo.matuabom.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 구글 API 동시 호출 제한
+ * - 전체(global) 동시 실행 수 + 유저별 동시 실행 수를 세마포어로 묶는다
+ * - 가상 스레드 모드에서는 작업 수 제한이 없으므로 구글 rate limit 은 여기서 지킨다
+ */
+@Component
+public class GoogleApiRateLimiter {
+
+    @FunctionalInterface
+    public interface GoogleCall<T> {
+        T call() throws GeneralSecurityException, IOException;
+    }
+
+    @FunctionalInterface
+    public interface GoogleTask {
+        void run() throws GeneralSecurityException, IOException;
+    }
+
+    private final Semaphore global;
+    private final int perUserPermits;
+
+    /** 유저별 세마포어 + 사용 중인 스레드 수 (0 이 되면 맵에서 제거) */
+    private record UserPermit(Semaphore semaphore, int holders) {}
+
+    private final ConcurrentMap<String, UserPermit> perUser = new ConcurrentHashMap<>();
+
+    public GoogleApiRateLimiter(
+            @Value("${app.google.rate-limit.global-permits:32}") int globalPermits,
+            @Value("${app.google.rate-limit.per-user-permits:1}") int perUserPermits
+    ) {
+        this.global = new Semaphore(globalPermits, true);
+        this.perUserPermits = perUserPermits;
+    }
+
+    public <T> T call(String userId, GoogleCall<T> call)
+            throws GeneralSecurityException, IOException {
+
+        Semaphore user = perUser.compute(userId, (k, p) -> p == null
+                ? new UserPermit(new Semaphore(perUserPermits, true), 1)
+                : new UserPermit(p.semaphore(), p.holders() + 1)
+        ).semaphore();
+
+        try {
+            user.acquire();
+            try {
+                global.acquire();
+                try {
+                    return call.call();
+                } finally {
+                    global.release();
+                }
+            } finally {
+                user.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for Google API permit");
+        } finally {
+            perUser.computeIfPresent(userId, (k, p) -> p.holders() <= 1
+                    ? null
+                    : new UserPermit(p.semaphore(), p.holders() - 1));
+        }
+    }
+
+    public void run(String userId, GoogleTask task)
+            throws GeneralSecurityException, IOException {
+        call(userId, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
@@ -1,7 +1,7 @@
 package org.dallyeo.matuabom.service;
 
 import com.google.api.client.http.HttpRequestInitializer;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.services.calendar.Calendar;
 import com.google.auth.http.HttpCredentialsAdapter;
@@ -21,7 +21,7 @@ import java.util.Date;
 public class GoogleAuthHelper {
 
     private final OAuth2AuthorizedClientService authorizedClientService;
-    private final NetHttpTransport httpTransport;
+    private final HttpTransport httpTransport;
     private final JacksonFactory jsonFactory;
 
     private static final String APP_NAME = "Matuabom";
@@ -0,0 +1,62 @@
+package org.dallyeo.matuabom.service;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.calendar.Calendar;
+import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 유저별 Google Calendar 클라이언트 캐시
+ * - HTTP transport 는 GoogleApiConfig 의 공용 빈 하나만 사용 (keep-alive 커넥션 재사용)
+ * - (userId, accessToken) 이 같으면 만들어 둔 클라이언트를 그대로 재사용
+ * - 토큰이 바뀌면 기존 항목을 버리고 새로 만든다
+ */
+@Component
+public class GoogleCalendarClientFactory {
+
+    private static final String APP_NAME = "Matuabom Calendar Integration";
+
+    private final HttpTransport httpTransport;
+    private final JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+    private final LruCache<String, CachedClient> clients;
+
+    public GoogleCalendarClientFactory(
+            HttpTransport httpTransport,
+            @Value("${app.google.client-cache-size:1000}") int cacheSize
+    ) {
+        this.httpTransport = httpTransport;
+        this.clients = new LruCache<>(cacheSize);
+    }
+
+    public Calendar clientFor(GoogleOAuthClientEntity tokens) {
+        String userId = tokens.getUserId();
+        String accessToken = tokens.getAccessToken();
+
+        CachedClient cached = clients.get(userId);
+        if (cached != null && Objects.equals(cached.accessToken(), accessToken)) {
+            return cached.calendar();
+        }
+
+        Calendar calendar = new Calendar.Builder(
+                httpTransport,
+                jsonFactory,
+                req -> req.getHeaders().setAuthorization("Bearer " + accessToken)
+        ).setApplicationName(APP_NAME).build();
+
+        clients.put(userId, new CachedClient(accessToken, calendar));
+        return calendar;
+    }
+
+    /** 토큰 폐기/연동 해제 시 호출 */
+    public void evict(String userId) {
+        clients.remove(userId);
+    }
+
+    private record CachedClient(String accessToken, Calendar calendar) {}
+}
@@ -1,7 +1,9 @@
 package org.dallyeo.matuabom.service;
 
 import org.dallyeo.matuabom.dto.CalendarEventDto;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
 import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.dallyeo.matuabom.util.EventBuckets;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -9,13 +11,26 @@ import java.util.List;
 @Service
 public class GoogleCalendarQueryService {
   private final CalendarEventRepository repository;
+  private final CalendarRangeCache rangeCache;
 
-  public GoogleCalendarQueryService(CalendarEventRepository repository) {
+  public GoogleCalendarQueryService(CalendarEventRepository repository, CalendarRangeCache rangeCache) {
     this.repository = repository;
+    this.rangeCache = rangeCache;
   }
 
   public List<CalendarEventDto> query(String userEmail, Long startTs, Long endTs) {
     if (startTs != null && endTs != null) {
+          // 이번 달 ± 정도의 짧은 기간은 월 단위 캐시에서
+          if (rangeCache.covers(startTs, endTs)) {
+            return rangeCache.query(userEmail, startTs, endTs);
+          }
+
+          // 월 버킷으로 후보를 좁힌 겹침 조회 (구간이 너무 길면 일반 겹침 조회)
+          List<Integer> buckets = EventBuckets.forRange(startTs, endTs);
+          if (buckets != null) {
+            return repository.findOverlappingByBuckets(userEmail, buckets, startTs, endTs);
+          }
+
           // ✅ 변경: BETWEEN → OVERLAP
           return repository.findByUserEmailAndStartTimestampLessThanAndEndTimestampGreaterThanOrderByStartTimestampAsc(
               userEmail, endTs, startTs
@@ -23,4 +38,15 @@ public class GoogleCalendarQueryService {
         }
           return repository.findByUserEmailOrderByStartTimestampAsc(userEmail);
       }
+
+  /** 그리드용 compact 조회 (query 와 같은 조건, 필요한 필드만) */
+  public CompactEventsRes queryCompact(String userEmail, Long startTs, Long endTs) {
+    if (startTs != null && endTs != null) {
+      if (rangeCache.covers(startTs, endTs)) {
+        return CompactEventsRes.of(rangeCache.query(userEmail, startTs, endTs));
+      }
+      return repository.findCompact(userEmail, EventBuckets.forRange(startTs, endTs), startTs, endTs);
+    }
+    return repository.findCompact(userEmail, null, null, null);
+  }
 }
@@ -1,10 +1,12 @@
 package org.dallyeo.matuabom.service;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
-import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.http.HttpResponseException;
 import com.google.api.client.util.DateTime;
-import com.google.api.client.util.Value;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
@@ -12,35 +14,53 @@ import com.google.api.services.calendar.model.Events;
 import com.google.api.services.calendar.model.Channel;
 import lombok.RequiredArgsConstructor;
 import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.domain.SyncJob;
 import org.dallyeo.matuabom.dto.CalendarEventDto;
 import org.dallyeo.matuabom.dto.CreateEventReq;
+import org.dallyeo.matuabom.dto.EventChangeSet;
 import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.dallyeo.matuabom.util.EventBuckets;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GoogleCalendarService {
 
     private final CalendarEventRepository repository;
+    private final GoogleCalendarClientFactory clientFactory;
+    private final CalendarChangeLogService changeLog;
+    @Qualifier("googleImportExecutor")
+    private final Executor importExecutor;
 
     private static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
     private static final DateTimeFormatter ISO_LOCAL_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter ISO_OFFSET_DT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
     private static final Pattern DATE_ONLY_RE = Pattern.compile("^\\d{4}-\\d{2}-\\d{2}$");
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     @Value("${app.backend-base-url:http://localhost:8080}")
     private String backendBaseUrl;
 
+    @Value("${app.google.sync.page-size:2500}")
+    private int importPageSize;
+
+    @Value("${app.google.sync.max-in-flight-pages:2}")
+    private int maxInFlightPages;
+
     /* ==============================
        공통 유틸
        ============================== */
@@ -58,6 +78,36 @@ public class GoogleCalendarService {
                 return;
             }
 
+            createWatchChannel(tokens);
+        }
+
+    /**
+     * 만료 전 채널 교체 (GoogleWatchRenewer → RENEW_WATCH 작업)
+     * - 새 채널을 먼저 만들고 이전 채널은 channels().stop 으로 정리 (알림 공백 없음)
+     */
+    public void renewWatchChannel(GoogleOAuthClientEntity tokens)
+            throws GeneralSecurityException, IOException {
+
+        String oldChannelId = tokens.getWatchChannelId();
+        String oldResourceId = tokens.getWatchResourceId();
+
+        createWatchChannel(tokens);
+
+        if (oldChannelId != null && oldResourceId != null) {
+            try {
+                buildCalendarClient(tokens).channels()
+                        .stop(new Channel().setId(oldChannelId).setResourceId(oldResourceId))
+                        .execute();
+            } catch (GoogleJsonResponseException e) {
+                // 이미 만료/삭제된 채널 → 무시
+                if (e.getStatusCode() != 404 && e.getStatusCode() != 410) throw e;
+            }
+        }
+    }
+
+    private void createWatchChannel(GoogleOAuthClientEntity tokens)
+            throws GeneralSecurityException, IOException {
+
             Calendar client = buildCalendarClient(tokens);
 
             Channel channel = new Channel();
@@ -65,8 +115,9 @@ public class GoogleCalendarService {
             channel.setType("web_hook");
             // 배포 환경: https://matuabom.store/api/google/webhook
             channel.setAddress(backendBaseUrl + "/api/google/webhook");
-            // 나중에 webhook 에서 유저 찾기 쉽게, userId를 token에 넣어둔다
-            channel.setToken(tokens.getUserId());
+            // webhook 검증용 무작위 token (GoogleWebhookRouter 가 헤더와 비교)
+            String channelToken = newChannelToken();
+            channel.setToken(channelToken);
 
             com.google.api.services.calendar.Calendar.Events.Watch watch =
                     client.events().watch("primary", channel);
@@ -75,6 +126,7 @@ public class GoogleCalendarService {
 
             tokens.setWatchChannelId(created.getId());
             tokens.setWatchResourceId(created.getResourceId());
+            tokens.setWatchChannelToken(channelToken);
             if (created.getExpiration() != null) {
                 tokens.setWatchExpiresAt(
                         Instant.ofEpochMilli(created.getExpiration())
@@ -82,6 +134,12 @@ public class GoogleCalendarService {
             }
         }
 
+    private String newChannelToken() {
+        byte[] bytes = new byte[24];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     /** 문자열 → Instant 변환 */
     private Instant parseDate(String s, ZoneId zone) {
         if (s == null) return null;
@@ -115,18 +173,9 @@ public class GoogleCalendarService {
        GoogleOAuthClientEntity 기반 클라이언트 생성
        ============================================================ */
 
-    /** Google Calendar 클라이언트 생성 */
-    private Calendar buildCalendarClient(GoogleOAuthClientEntity tokens)
-            throws GeneralSecurityException, IOException {
-
-        var http = GoogleNetHttpTransport.newTrustedTransport();
-        var json = GsonFactory.getDefaultInstance();
-
-        return new Calendar.Builder(
-                http,
-                json,
-                req -> req.getHeaders().setAuthorization("Bearer " + tokens.getAccessToken())
-        ).setApplicationName("Matuabom Calendar Integration").build();
+    /** Google Calendar 클라이언트 (공용 transport + 유저별 캐시) */
+    private Calendar buildCalendarClient(GoogleOAuthClientEntity tokens) {
+        return clientFactory.clientFor(tokens);
     }
 
     /* ============================================================
@@ -169,9 +218,18 @@ public class GoogleCalendarService {
                 .startTimestamp(sTs)
                 .endTimestamp(eTs)
                 .timeZone(zone.getId())
+                .contentHash(contentHash(event))
+                .buckets(EventBuckets.of(sTs, eTs))
                 .build();
     }
 
+    /** 구글 원본 이벤트 내용 해시 (etag 가 있으면 그대로 사용) */
+    private String contentHash(Event event) {
+        if (event.getEtag() != null) return event.getEtag();
+        return Integer.toHexString(Objects.hash(
+                event.getSummary(), event.getDescription(), event.getStart(), event.getEnd()));
+    }
+
     /* ============================================================
        Google Event 생성 공통 로직
        ============================================================ */
@@ -232,7 +290,13 @@ public class GoogleCalendarService {
        📌 전체 동기화 (구글 → Atlas)
        ============================================================ */
 
-    public List<CalendarEventDto> fetchAndSaveAllEvents(
+    /**
+     * 페이지 단위 스트리밍 전체 동기화
+     * - 페이지 k 를 변환/저장하는 동안 k+1 페이지를 미리 받아온다 (최대 max-in-flight-pages)
+     * - 메모리에는 (id, contentHash) 맵과 처리 중인 페이지만 남는다
+     * - 저장된 해시와 비교해서 바뀐 것만 upsert, 끝까지 안 나온 id 는 delete (색상은 그대로 유지)
+     */
+    public EventChangeSet fetchAndSaveAllEvents(
             GoogleOAuthClientEntity tokens,
             String userKey
     ) throws GeneralSecurityException, IOException {
@@ -245,50 +309,64 @@ public class GoogleCalendarService {
 
         ZoneId zone = DEFAULT_ZONE;
 
-        // 기존 색상 보존
-        Map<String, String> previousColors = new HashMap<>();
-        repository.findByUserEmailOrderByStartTimestampAsc(resolvedKey)
-                .forEach(e -> {
-                    if (e.getColor() != null)
-                        previousColors.put(e.getId(), e.getColor());
-                });
+        Map<String, String> stored = repository.findContentHashesByUserEmail(resolvedKey);
 
-        List<Event> all = new ArrayList<>();
-        String page = null;
+        List<String> created = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        String nextSyncToken = null;
 
-        do {
-            Events events = calendar.events()
-                    .list("primary")
-                    .setSingleEvents(true)
-                    .setShowDeleted(false)
-                    .setOrderBy("startTime")
-                    .setTimeMin(new DateTime(0L))
-                    .setMaxResults(2500)
-                    .setPageToken(page)
-                    .execute();
+        GoogleEventPagePrefetcher.PageFetcher fetcher = pageToken -> calendar.events()
+                .list("primary")
+                .setSingleEvents(true)
+                .setShowDeleted(false)
+                .setOrderBy("startTime")
+                .setTimeMin(new DateTime(0L))
+                .setMaxResults(importPageSize)
+                .setPageToken(pageToken)
+                .execute();
+
+        try (GoogleEventPagePrefetcher pages =
+                     new GoogleEventPagePrefetcher(fetcher, importExecutor, maxInFlightPages)) {
+
+            Events page;
+            while ((page = pages.next()) != null) {
 
-            if (events.getItems() != null)
-                all.addAll(events.getItems());
+                List<CalendarEventDto> upserts = new ArrayList<>();
 
-            page = events.getNextPageToken();
+                if (page.getItems() != null) {
+                    for (Event ev : page.getItems()) {
+                        CalendarEventDto dto = toDto(ev, resolvedKey, zone);
 
-        } while (page != null);
+                        if (!stored.containsKey(dto.getId())) {
+                            created.add(dto.getId());
+                            upserts.add(dto);
+                        } else if (!Objects.equals(stored.get(dto.getId()), dto.getContentHash())) {
+                            updated.add(dto.getId());
+                            upserts.add(dto);
+                        }
+                        stored.remove(dto.getId());
+                    }
+                }
 
-        List<CalendarEventDto> dtos = all.stream()
-                .map(e -> {
-                    CalendarEventDto dto = toDto(e, resolvedKey, zone);
+                repository.bulkUpsertAndDelete(resolvedKey, upserts, List.of());
 
-                    if (previousColors.containsKey(dto.getId()))
-                        dto.setColor(previousColors.get(dto.getId()));
+                if (page.getNextSyncToken() != null) {
+                    nextSyncToken = page.getNextSyncToken();
+                }
+            }
+        }
 
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        // 구글에서 끝까지 안 나온 id → 삭제
+        List<String> deleted = new ArrayList<>(stored.keySet());
+        repository.bulkUpsertAndDelete(resolvedKey, List.of(), deleted);
 
-        repository.deleteByUserEmail(resolvedKey);
-        repository.saveAll(dtos);
+        if (nextSyncToken != null) {
+            tokens.setSyncToken(nextSyncToken);
+        }
 
-        return dtos;
+        EventChangeSet changes = new EventChangeSet(created, updated, deleted);
+        changeLog.recordWrite(resolvedKey, changes);
+        return changes;
     }
 
     /* ============================================================
@@ -315,7 +393,9 @@ public class GoogleCalendarService {
         if (req.getColor() != null)
             dto.setColor(req.getColor());
 
-        return repository.save(dto);
+        CalendarEventDto saved = repository.save(dto);
+        changeLog.recordWrite(userKey, EventChangeSet.created(saved.getId()));
+        return saved;
     }
 
     /* ============================================================
@@ -340,6 +420,33 @@ public class GoogleCalendarService {
         if (existing == null)
             throw new IllegalArgumentException("event not found in Google: " + eventId);
 
+        applyUpdate(existing, req, zone);
+
+        // Google에 업데이트
+        Event updated = calendar.events()
+                .update("primary", eventId, existing)
+                .execute();
+
+        // DTO 변환
+        CalendarEventDto dto = toDto(updated, userKey, zone);
+
+        // 색상 처리
+        if (req.getColor() != null) {
+            dto.setColor(req.getColor());
+        } else {
+            repository.findById(eventId)
+                    .map(CalendarEventDto::getColor)
+                    .ifPresent(dto::setColor);
+        }
+
+        CalendarEventDto saved = repository.save(dto);
+        changeLog.recordWrite(userKey, EventChangeSet.updated(saved.getId()));
+        return saved;
+    }
+
+    /** 수정 요청 내용을 구글 원본 이벤트에 반영 (단건 수정 / batch 수정 공통) */
+    private void applyUpdate(Event existing, CreateEventReq req, ZoneId zone) {
+
         // 제목/설명
         if (req.getTitle() != null)
             existing.setSummary(req.getTitle().isBlank() ? "(제목없음)" : req.getTitle());
@@ -414,25 +521,133 @@ public class GoogleCalendarService {
                             .setTimeZone(tzId)
             );
         }
+    }
 
-        // Google에 업데이트
-        Event updated = calendar.events()
-                .update("primary", eventId, existing)
-                .execute();
+    /* ============================================================
+       📌 구글 + DB: batch 생성/수정/삭제
+       ============================================================ */
 
-        // DTO 변환
-        CalendarEventDto dto = toDto(updated, userKey, zone);
+    /**
+     * 한 유저의 CREATE / UPDATE / DELETE 작업들을 구글 batch HTTP 요청으로 반영
+     * - 1) UPDATE 대상 원본을 GET batch 로 한 번에 → 2) insert/update/delete 를 batch 하나로
+     * - DB 반영은 bulk write 한 번, 변경 로그도 한 번 (버전 1 증가)
+     * - 리턴: jobs 와 같은 순서의 결과 (null = 성공, 아니면 그 작업의 실패 원인)
+     * - 호출 쪽에서 jobs 크기를 batch 한도(50) 이하로 맞춰서 넘긴다
+     */
+    public List<Exception> batchMutate(
+            GoogleOAuthClientEntity tokens,
+            String userKey,
+            List<SyncJob> jobs
+    ) throws GeneralSecurityException, IOException {
 
-        // 색상 처리
-        if (req.getColor() != null) {
-            dto.setColor(req.getColor());
-        } else {
-            repository.findById(eventId)
-                    .map(CalendarEventDto::getColor)
-                    .ifPresent(dto::setColor);
+        Calendar calendar = buildCalendarClient(tokens);
+        ZoneId zone = DEFAULT_ZONE;
+
+        int n = jobs.size();
+        Exception[] errors = new Exception[n];
+        Event[] originals = new Event[n];
+
+        // 1) UPDATE 대상 원본 조회
+        BatchRequest gets = calendar.batch();
+        for (int i = 0; i < n; i++) {
+            SyncJob job = jobs.get(i);
+            if (job.getType() != SyncJob.Type.UPDATE) continue;
+
+            int idx = i;
+            calendar.events().get("primary", job.getEventId())
+                    .queue(gets, batchCallback(errors, idx, ev -> originals[idx] = ev));
         }
+        if (gets.size() > 0) gets.execute();
+
+        // 2) 생성 / 수정 / 삭제
+        // 콜백은 execute() 안에서 같은 스레드로 차례로 불린다
+        List<CalendarEventDto> upserts = new ArrayList<>();
+        List<String> created = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+
+        BatchRequest writes = calendar.batch();
+        for (int i = 0; i < n; i++) {
+            if (errors[i] != null) continue;
+
+            SyncJob job = jobs.get(i);
+            CreateEventReq req = job.getPayload();
+            int idx = i;
+
+            switch (job.getType()) {
+                case CREATE -> calendar.events()
+                        .insert("primary", buildGoogleEvent(req, zone))
+                        .queue(writes, batchCallback(errors, idx, ev -> {
+                            CalendarEventDto dto = toDto(ev, userKey, zone);
+                            dto.setColor(req.getColor());
+                            upserts.add(dto);
+                            created.add(dto.getId());
+                        }));
+                case UPDATE -> {
+                    Event existing = originals[idx];
+                    if (existing == null) {
+                        errors[idx] = new IllegalArgumentException("event not found in Google: " + job.getEventId());
+                        continue;
+                    }
+                    applyUpdate(existing, req, zone);
+                    calendar.events()
+                            .update("primary", job.getEventId(), existing)
+                            .queue(writes, batchCallback(errors, idx, ev -> {
+                                // color 가 null 이면 bulk upsert 에서 기존 값 유지
+                                CalendarEventDto dto = toDto(ev, userKey, zone);
+                                dto.setColor(req.getColor());
+                                upserts.add(dto);
+                                updated.add(dto.getId());
+                            }));
+                }
+                case DELETE -> calendar.events()
+                        .delete("primary", job.getEventId())
+                        .queue(writes, new JsonBatchCallback<Void>() {
+                            @Override
+                            public void onSuccess(Void v, HttpHeaders headers) {
+                                deleted.add(job.getEventId());
+                            }
+
+                            @Override
+                            public void onFailure(GoogleJsonError e, HttpHeaders headers) {
+                                // deleteGoogleEvent 와 같게: 이미 없음 / 토큰 문제 → DB 만 정리
+                                int code = e.getCode();
+                                if (code == 404 || code == 410 || code == 401 || code == 403) {
+                                    deleted.add(job.getEventId());
+                                } else {
+                                    errors[idx] = toException(e, headers);
+                                }
+                            }
+                        });
+                default -> errors[idx] = new IllegalArgumentException("not a batchable job: " + job.getType());
+            }
+        }
+        if (writes.size() > 0) writes.execute();
+
+        repository.bulkUpsertAndDelete(userKey, upserts, deleted);
+        changeLog.recordWrite(userKey, new EventChangeSet(created, updated, deleted));
 
-        return repository.save(dto);
+        return Arrays.asList(errors);
+    }
+
+    private JsonBatchCallback<Event> batchCallback(Exception[] errors, int idx, Consumer<Event> onSuccess) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(Event event, HttpHeaders headers) {
+                onSuccess.accept(event);
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError e, HttpHeaders headers) {
+                errors[idx] = toException(e, headers);
+            }
+        };
+    }
+
+    /** batch 안의 개별 실패 → 단건 호출과 같은 예외 (SyncJobService 재시도 판단용) */
+    private GoogleJsonResponseException toException(GoogleJsonError e, HttpHeaders headers) {
+        return new GoogleJsonResponseException(
+                new HttpResponseException.Builder(e.getCode(), e.getMessage(), headers), e);
     }
 
     /* ============================================================
@@ -477,6 +692,7 @@ public class GoogleCalendarService {
                 throw new IllegalStateException("권한이 없는 일정입니다.");
             }
             repository.deleteById(eventId);
+            changeLog.recordWrite(userKey, EventChangeSet.deleted(eventId));
         });
     }
 
@@ -547,9 +763,12 @@ public class GoogleCalendarService {
                 .endTimestamp(eTs)
                 .timeZone(zone.getId())
                 .color(req.getColor())
+                .buckets(EventBuckets.of(sTs, eTs))
                 .build();
 
-        return repository.save(dto);
+        CalendarEventDto saved = repository.save(dto);
+        changeLog.recordWrite(userKey, EventChangeSet.created(saved.getId()));
+        return saved;
     }
 
     public CalendarEventDto updateLocalEvent(String eventId, CreateEventReq req) {
@@ -640,11 +859,14 @@ public class GoogleCalendarService {
         existing.setStartTimestamp(sTs);
         existing.setEndTimestamp(eTs);
         existing.setTimeZone(zone.getId());
+        existing.setBuckets(EventBuckets.of(sTs, eTs));
 
         if (req.getColor() != null)
             existing.setColor(req.getColor());
 
-        return repository.save(existing);
+        CalendarEventDto saved = repository.save(existing);
+        changeLog.recordWrite(userKey, EventChangeSet.updated(saved.getId()));
+        return saved;
     }
 
     public void deleteLocalEvent(String eventId) {
@@ -656,9 +878,16 @@ public class GoogleCalendarService {
                         throw new IllegalStateException("권한 없음");
 
                     repository.deleteById(eventId);
+                    changeLog.recordWrite(userKey, EventChangeSet.deleted(eventId));
                 });
     }
-    public void incrementalSync(GoogleOAuthClientEntity tokens)
+    /**
+     * syncToken 기반 증분 동기화
+     * - 페이지마다 변경분을 모아서 BulkOperations 한 번으로 반영 (이벤트당 findById + save 없음)
+     * - 생성/수정 구분은 $in 쿼리 한 번, 색상은 $set 대상이 아니라서 따로 읽지 않는다
+     * - 변경 로그는 전체 동기화로 넘어간 경우 거기서 남긴다
+     */
+    public EventChangeSet incrementalSync(GoogleOAuthClientEntity tokens)
             throws GeneralSecurityException, IOException {
 
         String userKey = tokens.getUserId();
@@ -666,58 +895,72 @@ public class GoogleCalendarService {
 
         if (tokens.getSyncToken() == null || tokens.getSyncToken().isBlank()) {
             // syncToken 없으면 전체 동기화 한 번
-            fetchAndSaveAllEvents(tokens, userKey);
-            return;
+            return fetchAndSaveAllEvents(tokens, userKey);
         }
 
         Calendar calendar = buildCalendarClient(tokens);
-        Events events;
 
-        try {
-            events = calendar.events()
-                    .list("primary")
-                    .setSingleEvents(true)
-                    .setShowDeleted(true)   // 삭제 이벤트 포함
-                    .setSyncToken(tokens.getSyncToken())
-                    .execute();
-        } catch (GoogleJsonResponseException e) {
-            // 410 Gone → syncToken 만료 → 전체 재동기화
-            if (e.getStatusCode() == 410) {
-                fetchAndSaveAllEvents(tokens, userKey);
-                return;
-            }
-            throw e;
-        }
+        List<String> created = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+
+        String pageToken = null;
+        String nextSyncToken = null;
 
-        if (events.getItems() != null) {
-            for (Event ev : events.getItems()) {
-                String eventId = ev.getId();
+        do {
+            Events events;
+            try {
+                events = calendar.events()
+                        .list("primary")
+                        .setSingleEvents(true)
+                        .setShowDeleted(true)   // 삭제 이벤트 포함
+                        .setSyncToken(tokens.getSyncToken())
+                        .setPageToken(pageToken)
+                        .execute();
+            } catch (GoogleJsonResponseException e) {
+                // 410 Gone → syncToken 만료 → 전체 재동기화
+                if (e.getStatusCode() == 410) {
+                    tokens.setSyncToken(null);
+                    return fetchAndSaveAllEvents(tokens, userKey);
+                }
+                throw e;
+            }
 
-                // 🔥 여기 수정
-                boolean deleted = "cancelled".equals(ev.getStatus());
+            List<CalendarEventDto> upserts = new ArrayList<>();
+            List<String> deletes = new ArrayList<>();
 
-                if (deleted) {
-                    // 삭제 반영
-                    repository.findById(eventId).ifPresent(dto -> {
-                        if (Objects.equals(dto.getUserEmail(), userKey)) {
-                            repository.deleteById(eventId);
-                        }
-                    });
-                } else {
-                    // upsert
-                    CalendarEventDto dto = toDto(ev, userKey, zone);
-                    // 기존 색상 유지
-                    repository.findById(eventId)
-                            .map(CalendarEventDto::getColor)
-                            .ifPresent(dto::setColor);
-                    repository.save(dto);
+            if (events.getItems() != null) {
+                for (Event ev : events.getItems()) {
+                    if ("cancelled".equals(ev.getStatus())) {
+                        deletes.add(ev.getId());
+                    } else {
+                        upserts.add(toDto(ev, userKey, zone));
+                    }
                 }
             }
-        }
 
-        String nextSyncToken = events.getNextSyncToken();
+            Set<String> existing = repository.findExistingIds(
+                    userKey, upserts.stream().map(CalendarEventDto::getId).toList());
+            for (CalendarEventDto dto : upserts) {
+                (existing.contains(dto.getId()) ? updated : created).add(dto.getId());
+            }
+            deleted.addAll(deletes);
+
+            repository.bulkUpsertAndDelete(userKey, upserts, deletes);
+
+            pageToken = events.getNextPageToken();
+            if (events.getNextSyncToken() != null) {
+                nextSyncToken = events.getNextSyncToken();
+            }
+
+        } while (pageToken != null);
+
         if (nextSyncToken != null && !nextSyncToken.isBlank()) {
             tokens.setSyncToken(nextSyncToken);
         }
+
+        EventChangeSet changes = new EventChangeSet(created, updated, deleted);
+        changeLog.recordWrite(userKey, changes);
+        return changes;
     }
 }
@@ -0,0 +1,94 @@
+package org.dallyeo.matuabom.service;
+
+import com.google.api.services.calendar.model.Events;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * events().list 페이지를 백그라운드에서 미리 받아오는 스트림
+ * - 소비자가 페이지 k 를 변환/저장하는 동안 k+1 페이지를 가져온다
+ * - 버퍼에는 최대 maxInFlight 페이지만 쌓이고, 소비가 느리면 생산도 멈춘다
+ */
+class GoogleEventPagePrefetcher implements AutoCloseable {
+
+    @FunctionalInterface
+    interface PageFetcher {
+        Events fetch(String pageToken) throws IOException;
+    }
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> buffer;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private boolean finished;
+
+    GoogleEventPagePrefetcher(PageFetcher fetcher, Executor executor, int maxInFlight) {
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, maxInFlight));
+        executor.execute(() -> produce(fetcher));
+    }
+
+    private void produce(PageFetcher fetcher) {
+        String pageToken = null;
+        try {
+            do {
+                Events page = fetcher.fetch(pageToken);
+                if (!offer(page)) return;
+                pageToken = page.getNextPageToken();
+            } while (pageToken != null);
+            offer(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            try {
+                offer(e);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** close() 되면 false (버퍼가 가득 차 있으면 빌 때까지 대기) */
+    private boolean offer(Object item) throws InterruptedException {
+        while (!closed.get()) {
+            if (buffer.offer(item, 200, TimeUnit.MILLISECONDS)) return true;
+        }
+        return false;
+    }
+
+    /** 다음 페이지. 마지막 페이지를 넘기면 null */
+    Events next() throws IOException {
+        if (finished) return null;
+
+        Object item;
+        try {
+            item = buffer.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for Google events page");
+        }
+
+        if (item == END) {
+            finished = true;
+            return null;
+        }
+        if (item instanceof Exception e) {
+            finished = true;
+            if (e instanceof IOException io) throw io;
+            if (e instanceof RuntimeException re) throw re;
+            throw new IOException(e);
+        }
+        return (Events) item;
+    }
+
+    @Override
+    public void close() {
+        closed.set(true);
+        buffer.clear();
+    }
+}
@@ -3,6 +3,10 @@ package org.dallyeo.matuabom.service;
 import lombok.RequiredArgsConstructor;
 import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
 import org.dallyeo.matuabom.repository.GoogleOAuthClientRepository;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +18,9 @@ import java.util.Optional;
 public class GoogleOAuthClientService {
 
     private final GoogleOAuthClientRepository repo;
+    private final UserProfileCache userCache;
+    private final GoogleWebhookRouter webhookRouter;
+    private final MongoTemplate mongoTemplate;
 
     /**
      * 구글 로그인 성공 시 Access/Refresh Token 전체 저장
@@ -39,21 +46,55 @@ public class GoogleOAuthClientService {
         entity.setUpdatedAt(Instant.now());
 
         repo.save(entity);
+        userCache.invalidate(userId);
     }
 
     public Optional<GoogleOAuthClientEntity> getTokens(String userId) {
         return repo.findByUserId(userId);
     }
 
+    /** 생성/수정/삭제마다 불리므로 캐시 + exists 쿼리 (토큰 문서 전체를 읽지 않는다) */
     public boolean isLinked(String userId) {
-        return repo.findByUserId(userId).isPresent();
+        return userCache.googleLinked(userId, () -> repo.existsByUserId(userId));
     }
 
     public Optional<GoogleOAuthClientEntity> findByChannelId(String channelId) {
             return repo.findByWatchChannelId(channelId);
         }
 
+    /**
+     * watch 채널 필드만 부분 업데이트 + webhook 라우팅 갱신
+     * - 작업 시작 때 읽은 엔티티를 통째로 save 하면 그사이 GoogleTokenManager 가 갱신한 토큰을 덮어쓴다
+     */
+    public void saveWatchChannel(GoogleOAuthClientEntity tokens) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(tokens.getId())),
+                new Update()
+                        .set("watchChannelId", tokens.getWatchChannelId())
+                        .set("watchResourceId", tokens.getWatchResourceId())
+                        .set("watchChannelToken", tokens.getWatchChannelToken())
+                        .set("watchExpiresAt", tokens.getWatchExpiresAt())
+                        .set("updatedAt", Instant.now()),
+                GoogleOAuthClientEntity.class
+        );
+        webhookRouter.register(tokens);
+    }
+
+    /** syncToken 만 부분 업데이트 (saveWatchChannel 과 같은 이유) */
+    public void saveSyncToken(GoogleOAuthClientEntity tokens) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(tokens.getId())),
+                new Update()
+                        .set("syncToken", tokens.getSyncToken())
+                        .set("updatedAt", Instant.now()),
+                GoogleOAuthClientEntity.class
+        );
+    }
+
+    /** watch 채널이 바뀌었을 수 있으므로 webhook 라우팅도 같이 갱신 */
     public GoogleOAuthClientEntity save(GoogleOAuthClientEntity entity) {
-            return repo.save(entity);
+            GoogleOAuthClientEntity saved = repo.save(entity);
+            webhookRouter.register(saved);
+            return saved;
         }
 }
@@ -1,20 +1,41 @@
 package org.dallyeo.matuabom.service;
 
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
 import lombok.RequiredArgsConstructor;
+import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.domain.SyncJob;
 import org.dallyeo.matuabom.dto.CreateEventReq;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * 구글 동기화 진입점
+ * - 요청 쪽 메서드(run* / sync*Async)는 sync_jobs 에 작업만 넣고 바로 리턴
+ * - 실제 실행은 SyncJobWorker 가 execute(job) 로 호출 (실패 시 backoff 재시도)
+ */
 @Service
 @RequiredArgsConstructor
 public class GoogleSyncService {
 
     private final GoogleOAuthClientService googleTokens;
     private final GoogleCalendarService googleCalendarService;
-    private final EventSseService eventSseService;
+    private final GoogleApiRateLimiter rateLimiter;
+    private final SyncJobService syncJobs;
+    private final GoogleTokenManager tokenManager;
+
+    @Value("${app.google.sync.webhook-debounce-ms:2000}")
+    private long webhookDebounceMs;
+
+    @Value("${app.google.batch.window-ms:300}")
+    private long batchWindowMs;
 
     /* ===========================
      *  1) 초기 / 증분 동기화
@@ -24,43 +45,18 @@ public class GoogleSyncService {
      * 구글 연동 직후 최초 동기화 + watch 등록
      * - JwtLoginSuccessHandler(handleGoogleLogin) 에서 호출
      */
-    @Async("googleSyncExecutor")
     public void runInitialSync(String userId) {
-        googleTokens.getTokens(userId).ifPresent(tokens -> {
-            try {
-                // syncToken 없으면 전체 동기화, 있으면 증분 동기화
-                googleCalendarService.incrementalSync(tokens);
-                googleTokens.save(tokens); // syncToken 반영
-
-                // 웹훅 채널 등록 (watch)
-                googleCalendarService.ensureWatchChannel(tokens);
-                googleTokens.save(tokens); // channelId/resourceId/expiration 반영
-
-                // 🔥 초기 동기화 끝나면 FE에게 알림
-                eventSseService.sendEventsUpdated();
-            } catch (GeneralSecurityException | IOException e) {
-                e.printStackTrace();
-            }
-        });
+        syncJobs.enqueue(userId, SyncJob.Type.INITIAL, null, null);
     }
 
     /**
      * 구글에서 webhook 이 왔거나, 조회 시 최신화하고 싶을 때 사용
      * - GoogleWebhookController
+     * - 유저당 대기 중인 작업은 1개로 합쳐지고, 첫 요청 후 webhook-debounce-ms 뒤에 실행
+     * - 실행은 유저별 permit(기본 1) 안에서 하므로 동시에 2개가 돌지 않는다
      */
-    @Async("googleSyncExecutor")
     public void runIncrementalSync(String userId) {
-        googleTokens.getTokens(userId).ifPresent(tokens -> {
-            try {
-                googleCalendarService.incrementalSync(tokens);
-                googleTokens.save(tokens);
-
-                // 🔥 증분 동기화 끝나면 FE에게 알림
-                eventSseService.sendEventsUpdated();
-            } catch (GeneralSecurityException | IOException e) {
-                e.printStackTrace();
-            }
-        });
+        syncJobs.enqueueIncremental(userId, Duration.ofMillis(webhookDebounceMs));
     }
 
     /* ===========================
@@ -72,42 +68,111 @@ public class GoogleSyncService {
      * - DB에는 이미 createLocalEvent 로 저장된 상태라고 가정
      * - 여기서는 구글 쪽만 나중에 따라가게 만든다
      */
-    @Async("googleSyncExecutor")
     public void syncCreateAsync(String userId, CreateEventReq req) {
-        googleTokens.getTokens(userId).ifPresent(tokens -> {
-            try {
-                googleCalendarService.createGoogleEvent(tokens, userId, req);
-            } catch (GeneralSecurityException | IOException e) {
-                e.printStackTrace();
-            }
-        });
+        syncJobs.enqueueAt(userId, SyncJob.Type.CREATE, null, req, batchWindowEnd());
     }
 
     /**
      * 일정 수정 비동기 동기화
      */
-    @Async("googleSyncExecutor")
     public void syncUpdateAsync(String userId, String eventId, CreateEventReq req) {
-        googleTokens.getTokens(userId).ifPresent(tokens -> {
-            try {
-                googleCalendarService.updateGoogleEvent(tokens, userId, eventId, req);
-            } catch (GeneralSecurityException | IOException e) {
-                e.printStackTrace();
-            }
-        });
+        syncJobs.enqueueAt(userId, SyncJob.Type.UPDATE, eventId, req, batchWindowEnd());
     }
 
     /**
      * 일정 삭제 비동기 동기화
      */
-    @Async("googleSyncExecutor")
     public void syncDeleteAsync(String userId, String eventId) {
-        googleTokens.getTokens(userId).ifPresent(tokens -> {
-            try {
-                googleCalendarService.deleteGoogleEvent(tokens, userId, eventId);
-            } catch (GeneralSecurityException | IOException e) {
-                e.printStackTrace();
+        syncJobs.enqueueAt(userId, SyncJob.Type.DELETE, eventId, null, batchWindowEnd());
+    }
+
+    /**
+     * 생성/수정/삭제는 batch-window-ms 뒤에 실행 → 연달아 들어온 작업이 같은 poll 에 잡혀서
+     * 구글 batch 요청 하나로 묶인다 (executeBatch)
+     */
+    private Instant batchWindowEnd() {
+        return Instant.now().plusMillis(batchWindowMs);
+    }
+
+    /* ===========================
+     *  3) 작업 실행 (SyncJobWorker)
+     * =========================== */
+
+    /**
+     * 작업 하나 실행. 예외는 그대로 던져서 워커가 재시도/DEAD 처리
+     * - 연동이 해제된 유저면 할 일이 없으므로 그냥 끝낸다
+     */
+    public void execute(SyncJob job) throws GeneralSecurityException, IOException {
+        String userId = job.getUserId();
+        Optional<GoogleOAuthClientEntity> found = googleTokens.getTokens(userId);
+        if (found.isEmpty()) return;
+
+        // 만료 직전이면 먼저 갱신 (같은 유저 동시 갱신은 하나로)
+        GoogleOAuthClientEntity tokens = tokenManager.ensureFresh(found.get());
+
+        try {
+            runJob(job, tokens);
+        } catch (GoogleJsonResponseException e) {
+            // 만료 시각 전인데 토큰이 거부됨 (폐기 등) → 다음 재시도에서 갱신
+            if (e.getStatusCode() == 401) tokenManager.markExpired(tokens);
+            throw e;
+        }
+    }
+
+    /**
+     * 같은 유저의 CREATE / UPDATE / DELETE 여러 개를 구글 batch 요청으로 한 번에 실행
+     * - 리턴: jobs 순서대로 작업별 실패 원인 (null = 성공)
+     * - 요청 전체가 실패하면 예외 → 워커가 모든 작업을 실패 처리
+     */
+    public List<Exception> executeBatch(String userId, List<SyncJob> jobs)
+            throws GeneralSecurityException, IOException {
+
+        Optional<GoogleOAuthClientEntity> found = googleTokens.getTokens(userId);
+        if (found.isEmpty()) return Collections.nCopies(jobs.size(), null);
+
+        GoogleOAuthClientEntity tokens = tokenManager.ensureFresh(found.get());
+        try {
+            List<Exception> results = rateLimiter.call(userId,
+                    () -> googleCalendarService.batchMutate(tokens, userId, jobs));
+            if (results.stream().anyMatch(e -> e instanceof GoogleJsonResponseException g && g.getStatusCode() == 401)) {
+                tokenManager.markExpired(tokens);
             }
-        });
+            return results;
+        } catch (GoogleJsonResponseException e) {
+            if (e.getStatusCode() == 401) tokenManager.markExpired(tokens);
+            throw e;
+        }
+    }
+
+    private void runJob(SyncJob job, GoogleOAuthClientEntity tokens) throws GeneralSecurityException, IOException {
+        String userId = job.getUserId();
+
+        // FE 알림은 GoogleCalendarService 가 변경 로그를 남기면서 보낸다
+        switch (job.getType()) {
+            case INITIAL -> rateLimiter.run(userId, () -> {
+                // syncToken 없으면 전체 동기화, 있으면 증분 동기화
+                googleCalendarService.incrementalSync(tokens);
+                googleTokens.saveSyncToken(tokens); // syncToken 반영
+
+                // 웹훅 채널 등록 (watch)
+                googleCalendarService.ensureWatchChannel(tokens);
+                googleTokens.saveWatchChannel(tokens); // channelId/resourceId/expiration 반영
+            });
+            case INCREMENTAL -> rateLimiter.run(userId, () -> {
+                googleCalendarService.incrementalSync(tokens);
+                googleTokens.saveSyncToken(tokens);
+            });
+            case CREATE -> rateLimiter.run(userId,
+                    () -> googleCalendarService.createGoogleEvent(tokens, userId, job.getPayload()));
+            case UPDATE -> rateLimiter.run(userId,
+                    () -> googleCalendarService.updateGoogleEvent(tokens, userId, job.getEventId(), job.getPayload()));
+            case DELETE -> rateLimiter.run(userId,
+                    () -> googleCalendarService.deleteGoogleEvent(tokens, userId, job.getEventId()));
+            case RENEW_WATCH -> rateLimiter.run(userId, () -> {
+                googleCalendarService.renewWatchChannel(tokens);
+                // 토큰 필드는 건드리지 않도록 watch 필드만 (그사이 GoogleTokenManager 가 갱신했을 수 있음)
+                googleTokens.saveWatchChannel(tokens);
+            });
+        }
     }
 }
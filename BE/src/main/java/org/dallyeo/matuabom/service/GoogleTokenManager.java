@@ -0,0 +1,238 @@
+package org.dallyeo.matuabom.service;
+
+import com.google.api.client.auth.oauth2.TokenResponse;
+import com.google.api.client.auth.oauth2.TokenResponseException;
+import com.google.api.client.googleapis.auth.oauth2.GoogleRefreshTokenRequest;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.repository.GoogleOAuthClientRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 구글 access token 갱신
+ * - ensureFresh: 만료 refresh-skew 전이면 refresh token 으로 새로 받아서 엔티티에 반영
+ * - 같은 유저에 대한 동시 갱신은 하나로 합친다 (single-flight, 나머지는 결과를 같이 받음)
+ * - sweeper 가 곧 만료될 토큰을 batch 로 미리 갱신 → 동기화 도중 401 이 거의 안 난다
+ */
+@Slf4j
+@Service
+public class GoogleTokenManager {
+
+    private final GoogleOAuthClientRepository repo;
+    private final MongoTemplate mongoTemplate;
+    private final HttpTransport httpTransport;
+    private final Executor googleSyncExecutor;
+
+    private final String clientId;
+    private final String clientSecret;
+    private final Duration refreshSkew;
+    private final Duration sweepLead;
+    private final int sweepBatchSize;
+
+    private final ConcurrentMap<String, CompletableFuture<GoogleOAuthClientEntity>> inFlight =
+            new ConcurrentHashMap<>();
+
+    public GoogleTokenManager(
+            GoogleOAuthClientRepository repo,
+            MongoTemplate mongoTemplate,
+            HttpTransport httpTransport,
+            @Qualifier("googleSyncExecutor") Executor googleSyncExecutor,
+            @Value("${spring.security.oauth2.client.registration.google.client-id}") String clientId,
+            @Value("${spring.security.oauth2.client.registration.google.client-secret}") String clientSecret,
+            @Value("${app.google.token.refresh-skew-seconds:300}") long refreshSkewSeconds,
+            @Value("${app.google.token.sweep-lead-seconds:600}") long sweepLeadSeconds,
+            @Value("${app.google.token.sweep-batch-size:100}") int sweepBatchSize
+    ) {
+        this.repo = repo;
+        this.mongoTemplate = mongoTemplate;
+        this.httpTransport = httpTransport;
+        this.googleSyncExecutor = googleSyncExecutor;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.refreshSkew = Duration.ofSeconds(refreshSkewSeconds);
+        this.sweepLead = Duration.ofSeconds(sweepLeadSeconds);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /* ===========================
+     *  갱신
+     * =========================== */
+
+    /**
+     * 곧 만료되는 토큰이면 갱신해서 tokens 에 반영 후 리턴 (아니면 그대로)
+     */
+    public GoogleOAuthClientEntity ensureFresh(GoogleOAuthClientEntity tokens) throws IOException {
+        return ensureFresh(tokens, refreshSkew);
+    }
+
+    private GoogleOAuthClientEntity ensureFresh(GoogleOAuthClientEntity tokens, Duration window) throws IOException {
+        if (!expiresWithin(tokens, window)) return tokens;
+
+        String userId = tokens.getUserId();
+        CompletableFuture<GoogleOAuthClientEntity> mine = new CompletableFuture<>();
+        CompletableFuture<GoogleOAuthClientEntity> running = inFlight.putIfAbsent(userId, mine);
+
+        if (running == null) {
+            try {
+                mine.complete(refresh(tokens, window));
+            } catch (Exception e) {
+                mine.completeExceptionally(e);
+            } finally {
+                inFlight.remove(userId, mine);
+            }
+            running = mine;
+        }
+
+        GoogleOAuthClientEntity fresh;
+        try {
+            fresh = running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) throw io;
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+
+        tokens.setAccessToken(fresh.getAccessToken());
+        tokens.setAccessTokenIssuedAt(fresh.getAccessTokenIssuedAt());
+        tokens.setAccessTokenExpiresAt(fresh.getAccessTokenExpiresAt());
+        tokens.setRefreshToken(fresh.getRefreshToken());
+        return tokens;
+    }
+
+    /**
+     * 구글이 401 을 준 토큰 → 만료 처리해서 다음 시도에 갱신되게
+     */
+    public void markExpired(GoogleOAuthClientEntity tokens) {
+        Instant now = Instant.now();
+        tokens.setAccessTokenExpiresAt(now);
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(tokens.getId()).and("accessToken").is(tokens.getAccessToken())),
+                new Update().set("accessTokenExpiresAt", now),
+                GoogleOAuthClientEntity.class);
+    }
+
+    private GoogleOAuthClientEntity refresh(GoogleOAuthClientEntity tokens, Duration window) throws IOException {
+        // 다른 인스턴스가 방금 갱신했을 수 있음
+        GoogleOAuthClientEntity latest = repo.findById(tokens.getId()).orElse(tokens);
+        if (!expiresWithin(latest, window)) return latest;
+
+        if (latest.getRefreshToken() == null) {
+            throw new IllegalStateException("no google refresh token for user " + tokens.getUserId());
+        }
+
+        TokenResponse res;
+        try {
+            res = new GoogleRefreshTokenRequest(
+                    httpTransport, GsonFactory.getDefaultInstance(),
+                    latest.getRefreshToken(), clientId, clientSecret
+            ).execute();
+        } catch (TokenResponseException e) {
+            if (e.getDetails() != null && "invalid_grant".equals(e.getDetails().getError())) {
+                // refresh token 폐기됨 → 재연동 전까지 재시도해도 소용 없음
+                discardRefreshToken(latest);
+                throw new IllegalStateException("google refresh token revoked for user " + tokens.getUserId(), e);
+            }
+            throw e;
+        }
+
+        Instant now = Instant.now();
+        latest.setAccessToken(res.getAccessToken());
+        latest.setAccessTokenIssuedAt(now);
+        latest.setAccessTokenExpiresAt(res.getExpiresInSeconds() == null
+                ? now.plusSeconds(3600)
+                : now.plusSeconds(res.getExpiresInSeconds()));
+
+        Update update = new Update()
+                .set("accessToken", latest.getAccessToken())
+                .set("accessTokenIssuedAt", latest.getAccessTokenIssuedAt())
+                .set("accessTokenExpiresAt", latest.getAccessTokenExpiresAt())
+                .set("updatedAt", now);
+        if (res.getRefreshToken() != null) {
+            latest.setRefreshToken(res.getRefreshToken());
+            latest.setRefreshTokenIssuedAt(now);
+            update.set("refreshToken", res.getRefreshToken()).set("refreshTokenIssuedAt", now);
+        }
+
+        // 토큰 필드만 부분 갱신 (syncToken / watch 필드는 건드리지 않음)
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(latest.getId())), update,
+                GoogleOAuthClientEntity.class);
+        return latest;
+    }
+
+    /**
+     * 폐기된 refresh token 을 지운다 → sweeper 조회(refreshToken != null)에서 빠진다
+     * - 그사이 재연동으로 새 토큰이 들어왔으면 건드리지 않도록 같은 값일 때만
+     */
+    private void discardRefreshToken(GoogleOAuthClientEntity tokens) {
+        try {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(tokens.getId()).and("refreshToken").is(tokens.getRefreshToken())),
+                    new Update().unset("refreshToken").unset("refreshTokenIssuedAt").set("updatedAt", Instant.now()),
+                    GoogleOAuthClientEntity.class);
+            tokens.setRefreshToken(null);
+            tokens.setRefreshTokenIssuedAt(null);
+        } catch (Exception e) {
+            log.warn("could not discard revoked google refresh token for user {}", tokens.getUserId(), e);
+        }
+    }
+
+    private boolean expiresWithin(GoogleOAuthClientEntity tokens, Duration window) {
+        Instant exp = tokens.getAccessTokenExpiresAt();
+        return exp == null || exp.isBefore(Instant.now().plus(window));
+    }
+
+    /* ===========================
+     *  sweeper
+     * =========================== */
+
+    /**
+     * sweep-lead 안에 만료될 토큰을 만료 임박 순으로 batch 만큼 미리 갱신
+     */
+    @Scheduled(fixedDelayString = "${app.google.token.sweep-interval-ms:60000}",
+            initialDelayString = "${app.google.token.sweep-interval-ms:60000}")
+    public void sweep() {
+        List<GoogleOAuthClientEntity> expiring;
+        try {
+            expiring = repo.findByAccessTokenExpiresAtBeforeAndRefreshTokenIsNotNullOrderByAccessTokenExpiresAtAsc(
+                    Instant.now().plus(sweepLead), PageRequest.of(0, sweepBatchSize));
+        } catch (Exception e) {
+            log.warn("google token sweep query failed", e);
+            return;
+        }
+
+        for (GoogleOAuthClientEntity tokens : expiring) {
+            try {
+                googleSyncExecutor.execute(() -> {
+                    try {
+                        ensureFresh(tokens, sweepLead);
+                    } catch (Exception e) {
+                        log.warn("google token refresh failed for user {}", tokens.getUserId(), e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                return; // 풀이 바쁨 → 다음 sweep 때
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.dallyeo.matuabom.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.domain.SyncJob;
+import org.dallyeo.matuabom.repository.GoogleOAuthClientRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구글 watch 채널 만료 전 갱신 스케줄러
+ * - watchExpiresAt 인덱스로 renew-lead 안에 만료될 채널을 batch 만큼 조회
+ * - 바로 호출하지 않고 sync_jobs 에 RENEW_WATCH 작업으로 넣는다
+ *   → 실행/병렬도/rate limit/재시도는 SyncJobWorker + GoogleApiRateLimiter 가 담당
+ * - 실행 시각은 [지금, min(spread, 만료까지 남은 시간의 절반)] 사이 무작위 → 정시에 몰리지 않게
+ * - 유저당 대기 중인 RENEW_WATCH 는 1개 (여러 인스턴스가 동시에 돌아도 중복 없음)
+ */
+@Slf4j
+@Component
+public class GoogleWatchRenewer {
+
+    private final GoogleOAuthClientRepository repo;
+    private final SyncJobService syncJobs;
+
+    private final boolean enabled;
+    private final Duration renewLead;
+    private final Duration spread;
+    private final int batchSize;
+
+    public GoogleWatchRenewer(
+            GoogleOAuthClientRepository repo,
+            SyncJobService syncJobs,
+            @Value("${app.google.watch.renew-enabled:true}") boolean enabled,
+            @Value("${app.google.watch.renew-lead-hours:24}") long renewLeadHours,
+            @Value("${app.google.watch.renew-spread-minutes:120}") long spreadMinutes,
+            @Value("${app.google.watch.renew-batch-size:200}") int batchSize
+    ) {
+        this.repo = repo;
+        this.syncJobs = syncJobs;
+        this.enabled = enabled;
+        this.renewLead = Duration.ofHours(renewLeadHours);
+        this.spread = Duration.ofMinutes(spreadMinutes);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.google.watch.renew-interval-ms:600000}",
+            initialDelayString = "${app.google.watch.renew-interval-ms:600000}")
+    public void renewExpiring() {
+        if (!enabled) return;
+
+        Instant now = Instant.now();
+        List<GoogleOAuthClientEntity> expiring;
+        try {
+            expiring = repo.findByWatchExpiresAtBeforeOrderByWatchExpiresAtAsc(
+                    now.plus(renewLead), PageRequest.of(0, batchSize));
+        } catch (Exception e) {
+            log.warn("watch renewal query failed", e);
+            return;
+        }
+
+        for (GoogleOAuthClientEntity tokens : expiring) {
+            try {
+                syncJobs.enqueueCoalesced(tokens.getUserId(), SyncJob.Type.RENEW_WATCH,
+                        now.plusMillis(jitterMs(now, tokens.getWatchExpiresAt())));
+            } catch (Exception e) {
+                log.warn("watch renewal enqueue failed for user {}", tokens.getUserId(), e);
+            }
+        }
+    }
+
+    /** 만료까지 남은 시간의 절반과 spread 중 작은 값 안에서 무작위 (이미 만료됐으면 0) */
+    private long jitterMs(Instant now, Instant expiresAt) {
+        long untilExpiry = Duration.between(now, expiresAt).toMillis();
+        long window = Math.min(spread.toMillis(), untilExpiry / 2);
+        return window <= 0 ? 0 : ThreadLocalRandom.current().nextLong(window);
+    }
+}
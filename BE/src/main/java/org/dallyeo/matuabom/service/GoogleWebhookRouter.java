@@ -0,0 +1,171 @@
+package org.dallyeo.matuabom.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.repository.GoogleOAuthClientRepository;
+import org.dallyeo.matuabom.util.LruCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 구글 webhook 라우팅 (channelId → userId, 메모리)
+ * - GoogleOAuthClientService.save 에서 watch 채널이 바뀔 때마다 register → 테이블 최신화
+ * - 요청 스레드에서는 메모리만 본다: 헤더 검증(token / resourceId / 만료) 후 작업은 executor 로 넘김
+ * - 테이블에 없는 채널(다른 인스턴스가 만든 채널, 재시작 직후)은 executor 에서 인덱스로 조회
+ *   → 채널당 조회 1번만, 없는 채널은 unknown 캐시에 잠시 남겨서 위조 요청이 Mongo 로 가지 않게
+ * - 같은 유저 알림이 debounce 안에 또 오면 enqueue 도 생략 (대기 중인 증분 동기화가 같이 처리)
+ * - 동기화 요청은 GoogleSyncService.runIncrementalSync 로
+ *   (GoogleSyncService → GoogleOAuthClientService → 이 클래스 순환이라 ObjectProvider 로 호출 시점에 꺼낸다)
+ */
+@Slf4j
+@Service
+public class GoogleWebhookRouter {
+
+    private final GoogleOAuthClientRepository repo;
+    private final ObjectProvider<GoogleSyncService> googleSyncService;
+    private final Executor executor;
+    private final long debounceMs;
+    private final long unknownTtlMs;
+
+    private final ConcurrentMap<String, Route> byChannel = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> channelByUser = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> lastEnqueuedAt = new ConcurrentHashMap<>();
+    private final Set<String> lookups = ConcurrentHashMap.newKeySet();
+    private final LruCache<String, Long> unknown;
+
+    public GoogleWebhookRouter(
+            GoogleOAuthClientRepository repo,
+            ObjectProvider<GoogleSyncService> googleSyncService,
+            @Qualifier("googleSyncExecutor") Executor executor,
+            @Value("${app.google.sync.webhook-debounce-ms:2000}") long debounceMs,
+            @Value("${app.google.watch.unknown-channel-ttl-seconds:60}") long unknownTtlSeconds,
+            @Value("${app.google.watch.unknown-channel-cache-size:10000}") int unknownCacheSize
+    ) {
+        this.repo = repo;
+        this.googleSyncService = googleSyncService;
+        this.executor = executor;
+        this.debounceMs = debounceMs;
+        this.unknownTtlMs = unknownTtlSeconds * 1000;
+        this.unknown = new LruCache<>(unknownCacheSize);
+    }
+
+    /* ===========================
+     *  테이블 관리
+     * =========================== */
+
+    /** 현재 watch 채널로 교체 (이전 채널은 라우팅에서 빠진다) */
+    public void register(GoogleOAuthClientEntity tokens) {
+        String userId = tokens.getUserId();
+        String channelId = tokens.getWatchChannelId();
+        if (userId == null || channelId == null) return;
+
+        Route route = new Route(userId, tokens.getWatchResourceId(), expectedToken(tokens),
+                tokens.getWatchExpiresAt() == null ? Long.MAX_VALUE : tokens.getWatchExpiresAt().toEpochMilli());
+
+        byChannel.put(channelId, route);
+        unknown.remove(channelId);
+
+        String previous = channelByUser.put(userId, channelId);
+        if (previous != null && !previous.equals(channelId)) {
+            byChannel.remove(previous);
+        }
+    }
+
+    /* ===========================
+     *  webhook
+     * =========================== */
+
+    /**
+     * 알림 하나 처리 (Mongo 를 기다리지 않는다)
+     * - 리턴: 검증을 통과해서 동기화를 걸었거나 조회를 시작했으면 true
+     */
+    public boolean route(String channelId, String resourceId, String token) {
+        if (channelId == null) return false;
+
+        Route route = byChannel.get(channelId);
+        if (route != null) {
+            if (!route.accepts(resourceId, token)) return false;
+            enqueueSync(route.userId());
+            return true;
+        }
+
+        Long unknownUntil = unknown.get(channelId);
+        if (unknownUntil != null && System.currentTimeMillis() < unknownUntil) return false;
+
+        // 채널당 조회 1번만 (조회 중에 오는 알림은 조회 결과로 같이 처리된다)
+        if (!lookups.add(channelId)) return true;
+        try {
+            executor.execute(() -> lookup(channelId, resourceId, token));
+        } catch (RejectedExecutionException e) {
+            lookups.remove(channelId);
+            return false;
+        }
+        return true;
+    }
+
+    private void lookup(String channelId, String resourceId, String token) {
+        try {
+            Optional<GoogleOAuthClientEntity> found = repo.findByWatchChannelId(channelId);
+            if (found.isEmpty()) {
+                unknown.put(channelId, System.currentTimeMillis() + unknownTtlMs);
+                return;
+            }
+            register(found.get());
+
+            Route route = byChannel.get(channelId);
+            if (route != null && route.accepts(resourceId, token)) {
+                enqueueSync(route.userId());
+            }
+        } catch (Exception e) {
+            log.warn("webhook channel lookup failed: {}", channelId, e);
+        } finally {
+            lookups.remove(channelId);
+        }
+    }
+
+    private void enqueueSync(String userId) {
+        long now = System.currentTimeMillis();
+        Long last = lastEnqueuedAt.get(userId);
+        if (last != null && now - last < debounceMs) return;
+        lastEnqueuedAt.put(userId, now);
+
+        try {
+            executor.execute(() -> {
+                try {
+                    googleSyncService.getObject().runIncrementalSync(userId);
+                } catch (Exception e) {
+                    lastEnqueuedAt.remove(userId);
+                    log.warn("could not enqueue incremental sync for user {}", userId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            lastEnqueuedAt.remove(userId);
+        }
+    }
+
+    /** 예전 채널은 token 에 userId 를 넣었음 → 다음 갱신 전까지는 그대로 인정 */
+    private String expectedToken(GoogleOAuthClientEntity tokens) {
+        return tokens.getWatchChannelToken() != null ? tokens.getWatchChannelToken() : tokens.getUserId();
+    }
+
+    private record Route(String userId, String resourceId, String token, long expiresAtMillis) {
+
+        boolean accepts(String resourceId, String token) {
+            if (System.currentTimeMillis() >= expiresAtMillis) return false;
+            if (this.resourceId != null && !this.resourceId.equals(resourceId)) return false;
+            return token != null && MessageDigest.isEqual(
+                    this.token.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
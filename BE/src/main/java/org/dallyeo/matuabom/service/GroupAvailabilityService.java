@@ -0,0 +1,150 @@
+package org.dallyeo.matuabom.service;
+
+import org.dallyeo.matuabom.domain.User;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
+import org.dallyeo.matuabom.dto.GroupAvailabilityRes;
+import org.dallyeo.matuabom.dto.TimeSlot;
+import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.dallyeo.matuabom.repository.UserRepository;
+import org.dallyeo.matuabom.util.EventBuckets;
+import org.dallyeo.matuabom.util.FreeSlotFinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 여러 유저 공통 빈 시간 계산
+ * - 유저별 기간 조회(findCompact: 시작/끝만 column 으로)를 availabilityExecutor 에서 병렬로
+ * - 모은 바쁜 구간을 FreeSlotFinder 로 한 번에 sweep (근무 시간 / 최소 길이 조건 포함)
+ * - 일정 내용은 내보내지 않고 빈 구간만 돌려준다
+ * - 요청자 본인 + 요청자의 카카오 친구(앱 연결에 동의한 친구 = talk/friends 결과)만 참가자로 받는다
+ *   그 외 id 가 하나라도 있으면 403 (AccessDeniedException)
+ */
+@Service
+public class GroupAvailabilityService {
+
+    private final CalendarEventRepository repository;
+    private final UserRepository userRepository;
+    private final KakaoFriendsService kakaoFriends;
+    private final Executor executor;
+    private final int maxParticipants;
+    private final long maxWindowMillis;
+
+    public GroupAvailabilityService(
+            CalendarEventRepository repository,
+            UserRepository userRepository,
+            KakaoFriendsService kakaoFriends,
+            @Qualifier("availabilityExecutor") Executor executor,
+            @Value("${app.availability.max-participants:50}") int maxParticipants,
+            @Value("${app.availability.max-window-days:62}") long maxWindowDays
+    ) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.kakaoFriends = kakaoFriends;
+        this.executor = executor;
+        this.maxParticipants = maxParticipants;
+        this.maxWindowMillis = maxWindowDays * 24 * 60 * 60 * 1000;
+    }
+
+    /**
+     * @param requesterId   요청한 유저 (항상 참가자에 포함)
+     * @param others        같이 볼 유저들 (요청자의 카카오 친구만 허용)
+     * @param includeAllDay false 면 종일 일정(생일/휴일 등)은 바쁜 시간으로 치지 않는다
+     */
+    public GroupAvailabilityRes findCommonFreeSlots(String requesterId, List<String> others, long from, long to,
+                                                    long minLengthMillis, FreeSlotFinder.WorkingHours hours,
+                                                    boolean includeAllDay) {
+        Set<String> participants = new LinkedHashSet<>();
+        participants.add(requesterId);
+        for (String id : others) {
+            if (id != null && !id.isBlank()) participants.add(id.trim());
+        }
+        List<String> userIds = List.copyOf(participants);
+
+        if (userIds.size() > maxParticipants) {
+            throw new IllegalArgumentException("too many participants (max " + maxParticipants + ")");
+        }
+        if (to <= from) throw new IllegalArgumentException("end must be after start");
+        if (to - from > maxWindowMillis) throw new IllegalArgumentException("window too long");
+
+        checkVisible(requesterId, userIds.subList(1, userIds.size()));
+
+        List<Integer> buckets = EventBuckets.forRange(from, to);
+
+        List<CompletableFuture<CompactEventsRes>> fetches = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            fetches.add(fetch(() -> repository.findCompact(userId, buckets, from, to)));
+        }
+
+        List<CompactEventsRes> perUser = new ArrayList<>(fetches.size());
+        try {
+            for (CompletableFuture<CompactEventsRes> f : fetches) perUser.add(f.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+
+        int total = 0;
+        for (CompactEventsRes events : perUser) total += events.count();
+
+        long[] starts = new long[total];
+        long[] ends = new long[total];
+        int n = 0;
+        for (CompactEventsRes events : perUser) {
+            for (int i = 0; i < events.count(); i++) {
+                if (!includeAllDay && events.allDay()[i]) continue;
+                starts[n] = events.start()[i];
+                ends[n] = events.end()[i];
+                n++;
+            }
+        }
+
+        List<TimeSlot> slots = FreeSlotFinder.find(starts, ends, n, from, to, minLengthMillis, hours);
+        return new GroupAvailabilityRes(List.copyOf(userIds), from, to, slots);
+    }
+
+    /** 요청자가 볼 수 있는 유저인지 (카카오 친구), 아니면 403 */
+    private void checkVisible(String requesterId, List<String> others) {
+        if (others.isEmpty()) return;
+
+        Set<Long> friendKakaoIds;
+        try {
+            friendKakaoIds = kakaoFriends.friendKakaoIds(requesterId, () -> userRepository.findById(requesterId)
+                    .map(User::getKakaoAccessToken)
+                    .orElseThrow(() -> new AccessDeniedException("unknown requester")));
+        } catch (HttpStatusCodeException e) {
+            // 친구 목록을 확인할 수 없으면 허용하지 않는다
+            throw new AccessDeniedException("could not verify kakao friends");
+        }
+
+        List<User> users = userRepository.findByIdIn(others);
+        Set<String> allowed = new LinkedHashSet<>();
+        for (User u : users) {
+            if (u.getKakaoId() != null && friendKakaoIds.contains(u.getKakaoId())) allowed.add(u.getId());
+        }
+        for (String id : others) {
+            if (!allowed.contains(id)) throw new AccessDeniedException("not allowed to view availability of " + id);
+        }
+    }
+
+    private CompletableFuture<CompactEventsRes> fetch(Supplier<CompactEventsRes> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, executor);
+        } catch (RejectedExecutionException e) {
+            // 풀이 꽉 찼으면 요청 스레드에서 바로
+            return CompletableFuture.completedFuture(query.get());
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package org.dallyeo.matuabom.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 카카오 친구 목록 (talk/friends) 프록시 + 유저별 캐시
+ * - ttl 안에서는 카카오를 부르지 않는다
+ * - ttl 이 지나면 ETag / Last-Modified 가 있을 때 조건부 요청 → 304 면 기존 본문 재사용
+ * - 같은 유저 요청이 동시에 오면 카카오 호출은 1번 (나머지는 결과를 같이 받음)
+ * - 카카오 오류(HttpStatusCodeException)는 캐시하지 않고 그대로 던진다
+ * - 본문은 첫 페이지(limit=100), 친구 id 집합은 after_url 을 따라 끝 페이지까지 모아서 캐시
+ */
+@Slf4j
+@Service
+public class KakaoFriendsService {
+
+    private static final String FRIENDS_PATH = "/v1/api/talk/friends";
+    private static final int PAGE_SIZE = 100;   // 카카오 최대
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String friendsUrl;
+    private final long ttlMillis;
+    private final int maxPages;
+    private final LruCache<String, Entry> cache;
+
+    private final ConcurrentMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    public KakaoFriendsService(
+            RestTemplate restTemplate,
+            ObjectMapper objectMapper,
+            @Value("${app.kakao.api-base-url:https://kapi.kakao.com}") String apiBaseUrl,
+            @Value("${app.kakao.friends.cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.kakao.friends.cache-size:10000}") int cacheSize,
+            @Value("${app.kakao.friends.max-pages:50}") int maxPages
+    ) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.friendsUrl = apiBaseUrl + FRIENDS_PATH;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxPages = maxPages;
+        this.cache = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * 친구 목록 JSON (카카오 응답 그대로)
+     * - accessToken 은 카카오를 실제로 부를 때만 꺼낸다 (캐시 hit 면 유저 조회도 안 함)
+     */
+    public String friends(String userId, Supplier<String> accessToken) {
+        return load(userId, accessToken).body;
+    }
+
+    /** 친구들의 카카오 회원번호 (모든 페이지의 elements[].id, 같은 캐시에서) */
+    public Set<Long> friendKakaoIds(String userId, Supplier<String> accessToken) {
+        return load(userId, accessToken).friendIds;
+    }
+
+    private Entry load(String userId, Supplier<String> accessToken) {
+        Entry cached = cache.get(userId);
+        if (cached != null && cached.isFresh()) return cached;
+
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(userId, mine);
+
+        if (running == null) {
+            try {
+                // 직전에 끝난 호출이 이미 채웠을 수 있음
+                Entry latest = cache.get(userId);
+                mine.complete(latest != null && latest.isFresh()
+                        ? latest
+                        : fetch(userId, accessToken.get(), latest));
+            } catch (Exception e) {
+                mine.completeExceptionally(e);
+            } finally {
+                inFlight.remove(userId, mine);
+            }
+            running = mine;
+        }
+
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    /** 카카오 재로그인(토큰/동의 항목 변경) 시 */
+    public void evict(String userId) {
+        cache.remove(userId);
+    }
+
+    private Entry fetch(String userId, String accessToken, Entry stale) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        if (stale != null && stale.etag != null) {
+            headers.setIfNoneMatch(stale.etag);
+        } else if (stale != null && stale.lastModified != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, stale.lastModified);
+        }
+
+        ResponseEntity<String> response = restTemplate.exchange(
+                friendsUrl + "?limit=" + PAGE_SIZE, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // 첫 페이지가 그대로여도 뒷페이지는 바뀌었을 수 있음 → id 는 다음 페이지부터 다시 모은다
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        Entry entry = response.getStatusCode() == HttpStatus.NOT_MODIFIED && stale != null
+                ? new Entry(stale.body, stale.etag, stale.lastModified, expiresAt, collectIds(stale.body, accessToken))
+                : new Entry(response.getBody(), response.getHeaders().getETag(),
+                        response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), expiresAt,
+                        collectIds(response.getBody(), accessToken));
+
+        // inFlight 에서 빠지기 전에 캐시에 넣어야 뒤늦게 온 요청이 다시 부르지 않는다
+        cache.put(userId, entry);
+        return entry;
+    }
+
+    /**
+     * 첫 페이지 본문부터 after_url 을 따라가며 친구 id 를 모은다
+     * - after_url 은 카카오 친구 API 주소일 때만 따라간다 (토큰을 다른 곳으로 보내지 않게)
+     * - max-pages 에서 끊는다 (그 뒤 친구는 권한 확인에서 거부)
+     */
+    private Set<Long> collectIds(String firstPage, String accessToken) {
+        Set<Long> ids = new HashSet<>();
+        String page = firstPage;
+
+        for (int pages = 1; ; pages++) {
+            JsonNode root = parse(page);
+            if (root == null) break;
+            for (JsonNode friend : root.path("elements")) {
+                if (friend.hasNonNull("id")) ids.add(friend.get("id").asLong());
+            }
+
+            String next = root.path("after_url").asText(null);
+            if (next == null || next.isBlank() || !next.startsWith(friendsUrl + "?")) break;
+            if (pages >= maxPages) {
+                log.warn("kakao friends list truncated at {} pages", maxPages);
+                break;
+            }
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(accessToken);
+            page = restTemplate.exchange(URI.create(next), HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                    .getBody();
+        }
+        return Set.copyOf(ids);
+    }
+
+    private JsonNode parse(String body) {
+        if (body == null) return null;
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            // 못 읽으면 친구 없음으로 (권한 확인 쪽은 거부로 끝난다)
+            return null;
+        }
+    }
+
+    /** friendIds 는 받을 때 모든 페이지를 한 번에 모아 둔다 (304 여도 뒷페이지는 다시) */
+    private record Entry(String body, String etag, String lastModified, long expiresAtMillis, Set<Long> friendIds) {
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAtMillis;
+        }
+    }
+}
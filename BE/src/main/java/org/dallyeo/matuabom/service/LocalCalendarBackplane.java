@@ -0,0 +1,46 @@
+package org.dallyeo.matuabom.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.dto.CalendarSignal;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 안에서만 도는 backplane (단일 인스턴스 / 테스트용)
+ * - publish 호출 스레드에서 구독자를 차례로 부른다 (한 구독자 예외가 다른 구독자를 막지 않음)
+ */
+@Slf4j
+public class LocalCalendarBackplane implements CalendarBackplane {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CalendarSignal>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(CalendarSignal signal) {
+        deliver(signal);
+    }
+
+    @Override
+    public void subscribe(Consumer<CalendarSignal> listener) {
+        listeners.add(listener);
+    }
+
+    protected void deliver(CalendarSignal signal) {
+        for (Consumer<CalendarSignal> listener : listeners) {
+            try {
+                listener.accept(signal);
+            } catch (RuntimeException e) {
+                log.warn("calendar signal listener failed (user {}, version {})",
+                        signal.userId(), signal.version(), e);
+            }
+        }
+    }
+}
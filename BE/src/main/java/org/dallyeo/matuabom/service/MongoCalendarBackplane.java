@@ -0,0 +1,134 @@
+package org.dallyeo.matuabom.service;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.dallyeo.matuabom.dto.CalendarSignal;
+import org.dallyeo.matuabom.dto.EventChangeSet;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mongo change stream 기반 backplane (여러 BE 인스턴스)
+ * - publish: 로컬 구독자에게 바로 전달 + calendar_signals 에 insert
+ * - 다른 인스턴스는 calendar_signals 의 insert change stream 을 보고 자기 구독자에게 전달
+ * - change stream 은 replica set 필요 (Atlas OK, docker-compose 단일 mongod 는 local 사용)
+ * - 끊기면 마지막 resume token 부터 다시 (메모리 보관, 재시작 후에는 새로 시작)
+ */
+@Slf4j
+public class MongoCalendarBackplane extends LocalCalendarBackplane {
+
+    static final String COLLECTION = "calendar_signals";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration retention;
+
+    private volatile boolean running;
+    private Thread watcher;
+
+    public MongoCalendarBackplane(MongoTemplate mongoTemplate, Duration retention) {
+        this.mongoTemplate = mongoTemplate;
+        this.retention = retention;
+    }
+
+    public void start() {
+        mongoTemplate.indexOps(COLLECTION)
+                .ensureIndex(new Index("at", Sort.Direction.ASC).named("at_ttl").expire(retention));
+
+        running = true;
+        watcher = Thread.ofVirtual().name("calendar-backplane-watch").start(this::watchLoop);
+    }
+
+    public void stop() {
+        running = false;
+        if (watcher != null) watcher.interrupt();
+    }
+
+    @Override
+    public void publish(CalendarSignal signal) {
+        deliver(signal);
+
+        EventChangeSet c = signal.changes();
+        try {
+            collection().insertOne(new Document("origin", signal.origin())
+                    .append("userId", signal.userId())
+                    .append("version", signal.version())
+                    .append("created", c.created())
+                    .append("updated", c.updated())
+                    .append("deleted", c.deleted())
+                    .append("at", new Date()));
+        } catch (MongoException e) {
+            // 다른 인스턴스 캐시/SSE 는 다음 변경이나 재연결 때 맞춰진다
+            log.warn("calendar signal publish failed (user {}, version {})", signal.userId(), signal.version(), e);
+        }
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(COLLECTION);
+    }
+
+    private void watchLoop() {
+        BsonDocument resumeToken = null;
+        long backoffMs = 500;
+
+        while (running) {
+            try {
+                ChangeStreamIterable<Document> stream = collection()
+                        .watch(List.of(Aggregates.match(Filters.eq("operationType", "insert"))))
+                        .maxAwaitTime(1, TimeUnit.SECONDS);
+                if (resumeToken != null) stream = stream.resumeAfter(resumeToken);
+
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+                    backoffMs = 500;
+                    while (running) {
+                        ChangeStreamDocument<Document> change = cursor.tryNext();
+                        if (change == null) continue;
+
+                        // 처리 전에 토큰부터 → 깨진 문서 하나 때문에 같은 곳에서 계속 실패하지 않게
+                        resumeToken = change.getResumeToken();
+                        Document doc = change.getFullDocument();
+                        if (doc == null || nodeId().equals(doc.getString("origin"))) continue;
+
+                        deliver(toSignal(doc));
+                    }
+                }
+            } catch (RuntimeException e) {
+                // Mongo 오류뿐 아니라 어떤 예외든 스레드를 끝내지 않고 다시 구독
+                if (!running) return;
+                log.warn("calendar backplane change stream failed, retrying in {}ms", backoffMs, e);
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, 30_000);
+            }
+        }
+    }
+
+    private CalendarSignal toSignal(Document doc) {
+        return new CalendarSignal(
+                doc.getString("origin"),
+                doc.getString("userId"),
+                doc.get("version", Number.class).longValue(),
+                new EventChangeSet(
+                        doc.getList("created", String.class, List.of()),
+                        doc.getList("updated", String.class, List.of()),
+                        doc.getList("deleted", String.class, List.of())
+                )
+        );
+    }
+}
@@ -0,0 +1,269 @@
+package org.dallyeo.matuabom.service;
+
+import com.google.api.client.googleapis.json.GoogleJsonResponseException;
+import org.dallyeo.matuabom.domain.SyncJob;
+import org.dallyeo.matuabom.dto.CreateEventReq;
+import org.dallyeo.matuabom.repository.SyncJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * sync_jobs 큐 조작 (enqueue / claim / 완료 / 실패 처리)
+ */
+@Service
+public class SyncJobService {
+
+    private final SyncJobRepository repo;
+    private final MongoTemplate mongoTemplate;
+
+    private final Duration lease;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+
+    public SyncJobService(
+            SyncJobRepository repo,
+            MongoTemplate mongoTemplate,
+            @Value("${app.sync-jobs.lease-seconds:300}") long leaseSeconds,
+            @Value("${app.sync-jobs.max-attempts:8}") int maxAttempts,
+            @Value("${app.sync-jobs.backoff-base-ms:2000}") long backoffBaseMs,
+            @Value("${app.sync-jobs.backoff-max-ms:600000}") long backoffMaxMs
+    ) {
+        this.repo = repo;
+        this.mongoTemplate = mongoTemplate;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+    }
+
+    /* ===========================
+     *  enqueue
+     * =========================== */
+
+    public SyncJob enqueue(String userId, SyncJob.Type type, String eventId, CreateEventReq payload) {
+        return enqueueAt(userId, type, eventId, payload, Instant.now());
+    }
+
+    public SyncJob enqueueAt(String userId, SyncJob.Type type, String eventId,
+                             CreateEventReq payload, Instant runAt) {
+        SyncJob job = new SyncJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setUserId(userId);
+        job.setType(type);
+        job.setEventId(eventId);
+        job.setPayload(payload);
+        job.setStatus(SyncJob.Status.PENDING);
+        job.setNextAttemptAt(runAt);
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        return repo.insert(job);
+    }
+
+    /**
+     * 증분 동기화 요청
+     * - 이미 대기 중인 작업이 있으면 거기에 합친다 (유저당 PENDING 1개, partial unique index)
+     * - 첫 요청 기준 delay 뒤에 실행되므로 연속된 webhook 이 한 번으로 묶인다
+     */
+    public void enqueueIncremental(String userId, Duration delay) {
+        enqueueCoalesced(userId, SyncJob.Type.INCREMENTAL, Instant.now().plus(delay));
+    }
+
+    /**
+     * 유저당 PENDING 1개로 합쳐지는 작업 (INCREMENTAL / RENEW_WATCH, SyncJob 의 partial unique index)
+     * - 이미 대기 중이면 실행 시각은 처음 것 그대로
+     */
+    public void enqueueCoalesced(String userId, SyncJob.Type type, Instant runAt) {
+        Instant now = Instant.now();
+        Query pending = Query.query(Criteria.where("userId").is(userId)
+                .and("type").is(type)
+                .and("status").is(SyncJob.Status.PENDING));
+
+        Update update = new Update()
+                .setOnInsert("_id", UUID.randomUUID().toString())
+                .setOnInsert("attempts", 0)
+                .setOnInsert("nextAttemptAt", runAt)
+                .setOnInsert("createdAt", now)
+                .set("updatedAt", now);
+
+        try {
+            mongoTemplate.upsert(pending, update, SyncJob.class);
+        } catch (DuplicateKeyException ignored) {
+            // 동시에 다른 요청이 먼저 만들었음 → 그 작업에 합쳐진 것
+        }
+    }
+
+    /* ===========================
+     *  claim
+     * =========================== */
+
+    /**
+     * 실행 가능한 작업을 최대 limit 개 lease 로 잡는다 (round trip 3번)
+     * 1) 후보 id 조회 → 2) 아직 실행 가능한 것만 RUNNING + leaseOwner 로 일괄 변경 → 3) 잡힌 것 조회
+     * - RUNNING 인데 lease 가 만료된 작업(죽은 워커)도 다시 가져온다
+     */
+    public List<SyncJob> claim(int limit) {
+        if (limit <= 0) return List.of();
+
+        Instant now = Instant.now();
+        Criteria claimable = new Criteria().orOperator(
+                Criteria.where("status").is(SyncJob.Status.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(SyncJob.Status.RUNNING).and("leaseExpiresAt").lt(now)
+        );
+
+        Query candidates = Query.query(claimable)
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+                .limit(limit);
+        candidates.fields().include("_id");
+
+        List<String> ids = mongoTemplate.find(candidates, SyncJob.class).stream()
+                .map(SyncJob::getId)
+                .toList();
+        if (ids.isEmpty()) return List.of();
+
+        String leaseOwner = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("_id").in(ids), claimable)),
+                new Update()
+                        .set("status", SyncJob.Status.RUNNING)
+                        .set("leaseOwner", leaseOwner)
+                        .set("leaseExpiresAt", now.plus(lease))
+                        .set("updatedAt", now),
+                SyncJob.class
+        );
+
+        return repo.findByLeaseOwnerOrderByCreatedAtAsc(leaseOwner);
+    }
+
+    /* ===========================
+     *  결과 반영
+     * =========================== */
+
+    /** 아직 이 lease 를 갖고 있을 때만 삭제 (lease 를 잃었으면 새 주인의 작업이므로 건드리지 않는다) */
+    public void complete(SyncJob job) {
+        mongoTemplate.remove(ownedBy(job), SyncJob.class);
+    }
+
+    /**
+     * 실행 직전 lease 확인 + 연장
+     * - false 면 lease 가 만료돼서 다른 워커가 가져간 것 → 실행하면 안 된다 (CREATE 중복 방지)
+     */
+    public boolean renewLease(SyncJob job) {
+        Instant now = Instant.now();
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(job.getId())
+                        .and("leaseOwner").is(job.getLeaseOwner())
+                        .and("status").is(SyncJob.Status.RUNNING)),
+                new Update().set("leaseExpiresAt", now.plus(lease)).set("updatedAt", now),
+                SyncJob.class
+        ).getModifiedCount() > 0;
+    }
+
+    /** 실행 대기/실행 중인 작업들의 lease 를 한 번에 연장 (SyncJobWorker heartbeat) */
+    public void renewLeases(Collection<SyncJob> held) {
+        if (held.isEmpty()) return;
+
+        Instant now = Instant.now();
+        List<Criteria> owned = held.stream()
+                .map(job -> Criteria.where("_id").is(job.getId()).and("leaseOwner").is(job.getLeaseOwner()))
+                .toList();
+
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().orOperator(owned).and("status").is(SyncJob.Status.RUNNING)),
+                new Update().set("leaseExpiresAt", now.plus(lease)).set("updatedAt", now),
+                SyncJob.class
+        );
+    }
+
+    private Query ownedBy(SyncJob job) {
+        return Query.query(Criteria.where("_id").is(job.getId()).and("leaseOwner").is(job.getLeaseOwner()));
+    }
+
+    /** 실행 못 하고 돌려놓기 (시도 횟수는 그대로) */
+    public void release(SyncJob job) {
+        try {
+            mongoTemplate.updateFirst(
+                    ownedBy(job),
+                    new Update()
+                            .set("status", SyncJob.Status.PENDING)
+                            .unset("leaseOwner")
+                            .unset("leaseExpiresAt")
+                            .set("updatedAt", Instant.now()),
+                    SyncJob.class
+            );
+        } catch (DuplicateKeyException ex) {
+            // fail() 과 같음: 같은 유저의 대기 중인 INCREMENTAL / RENEW_WATCH 가 이미 있음 → 그쪽에 맡긴다
+            repo.deleteById(job.getId());
+        }
+    }
+
+    /**
+     * 실패 처리
+     * - 재시도 불가 오류이거나 maxAttempts 도달 → DEAD (dead letter)
+     * - 그 외 → base * 2^(attempts-1) (최대 backoffMax) + jitter 뒤 재시도
+     */
+    public void fail(SyncJob job, Exception e) {
+        int attempts = job.getAttempts() + 1;
+        boolean dead = attempts >= maxAttempts || !isRetryable(e);
+
+        Update update = new Update()
+                .set("attempts", attempts)
+                .set("lastError", truncate(e.toString()))
+                .unset("leaseOwner")
+                .unset("leaseExpiresAt")
+                .set("updatedAt", Instant.now());
+
+        if (dead) {
+            update.set("status", SyncJob.Status.DEAD);
+        } else {
+            update.set("status", SyncJob.Status.PENDING)
+                    .set("nextAttemptAt", Instant.now().plusMillis(backoffMs(attempts)));
+        }
+
+        try {
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(job.getId()).and("leaseOwner").is(job.getLeaseOwner())),
+                    update,
+                    SyncJob.class
+            );
+        } catch (DuplicateKeyException ex) {
+            // 실패한 증분 동기화가 PENDING 으로 돌아가려는데 이미 새 요청이 대기 중 → 그쪽에 맡긴다
+            repo.deleteById(job.getId());
+        }
+    }
+
+    private long backoffMs(int attempts) {
+        long exp = backoffBaseMs << Math.min(attempts - 1, 20);
+        long capped = Math.min(exp, backoffMaxMs);
+        return capped + ThreadLocalRandom.current().nextLong(capped / 4 + 1);
+    }
+
+    private boolean isRetryable(Exception e) {
+        if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+            return false;
+        }
+        if (e instanceof GoogleJsonResponseException g) {
+            int code = g.getStatusCode();
+            // 4xx 는 대부분 다시 보내도 똑같음 (인증/권한/rate limit 계열만 재시도)
+            return code >= 500 || code == 401 || code == 403 || code == 408 || code == 429;
+        }
+        return true;
+    }
+
+    private String truncate(String s) {
+        return s.length() <= 1000 ? s : s.substring(0, 1000);
+    }
+}
@@ -0,0 +1,275 @@
+package org.dallyeo.matuabom.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dallyeo.matuabom.domain.SyncJob;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * sync_jobs 폴링 워커
+ * - poll 한 번에 여러 유저의 작업을 batch 로 claim
+ * - 같은 유저 작업은 생성 순서대로 한 태스크에서 순차 실행, 유저끼리는 googleSyncExecutor 에서 병렬
+ * - 유저 태스크가 아직 돌고 있을 때 새로 잡힌 그 유저 작업은 대기열 뒤에 붙여서 같은 태스크가 이어서 실행
+ *   (poll 이 달라도 한 유저 작업이 동시에/순서 뒤바뀌어 실행되지 않게)
+ * - 잡고 있는 작업은 heartbeat 로 lease 연장 + 실행 직전에 lease 를 다시 확인
+ *   (앞 작업이 오래 걸려 lease 가 만료 → 다른 poll 이 가져갔으면 실행하지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncJobWorker {
+
+    private final SyncJobService jobs;
+    private final GoogleSyncService googleSyncService;
+
+    @Qualifier("googleSyncExecutor")
+    private final Executor googleSyncExecutor;
+
+    @Value("${app.sync-jobs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.sync-jobs.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.sync-jobs.max-in-flight:200}")
+    private int maxInFlight;
+
+    @Value("${app.google.batch.max-size:50}")
+    private int batchMaxSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** claim 후 아직 끝나지 않은 작업 (heartbeat 대상) */
+    private final Set<SyncJob> held = ConcurrentHashMap.newKeySet();
+
+    /** 유저별 실행 대기열, 키가 있으면 그 유저 태스크가 실행 중 */
+    private final ConcurrentMap<String, List<SyncJob>> queues = new ConcurrentHashMap<>();
+
+    @Scheduled(fixedDelayString = "${app.sync-jobs.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) return;
+
+        int capacity = Math.min(batchSize, maxInFlight - inFlight.get());
+        List<SyncJob> claimed;
+        try {
+            claimed = jobs.claim(capacity);
+        } catch (Exception e) {
+            log.warn("sync job claim failed", e);
+            return;
+        }
+        if (claimed.isEmpty()) return;
+
+        Map<String, List<SyncJob>> byUser = new LinkedHashMap<>();
+        for (SyncJob job : claimed) {
+            byUser.computeIfAbsent(job.getUserId(), k -> new ArrayList<>()).add(job);
+        }
+
+        // 한 유저에서 실패해도 나머지 유저 작업은 계속 넘긴다
+        byUser.forEach((userId, userJobs) -> {
+            try {
+                dispatch(userId, userJobs);
+            } catch (Exception e) {
+                log.warn("could not dispatch {} sync jobs for user {}", userJobs.size(), userId, e);
+            }
+        });
+    }
+
+    /**
+     * 유저 대기열에 붙이고, 그 유저 태스크가 없으면 새로 띄운다
+     * - poll 은 스케줄러 스레드 하나에서만 돌기 때문에 거절 시 remove 해도 다른 poll 과 겹치지 않음
+     */
+    private void dispatch(String userId, List<SyncJob> userJobs) {
+        held.addAll(userJobs);
+        inFlight.addAndGet(userJobs.size());
+
+        AtomicBoolean started = new AtomicBoolean();
+        queues.compute(userId, (k, queued) -> {
+            if (queued == null) {
+                started.set(true);
+                return new ArrayList<>(userJobs);
+            }
+            queued.addAll(userJobs);
+            return queued;
+        });
+        if (!started.get()) return;
+
+        try {
+            googleSyncExecutor.execute(() -> drain(userId));
+        } catch (RejectedExecutionException e) {
+            for (SyncJob job : queues.remove(userId)) {
+                held.remove(job);
+                inFlight.decrementAndGet();
+                try {
+                    jobs.release(job);
+                } catch (Exception ex) {
+                    // 못 돌려놔도 lease 만료 후 다시 잡힌다
+                    log.warn("could not release sync job {}", job.getId(), ex);
+                }
+            }
+        }
+    }
+
+    /** 유저 대기열이 빌 때까지 실행 */
+    private void drain(String userId) {
+        List<SyncJob> next;
+        while ((next = takeQueued(userId)) != null) {
+            try {
+                runUserJobs(next);
+            } catch (Exception e) {
+                log.warn("sync jobs for user {} aborted", userId, e);
+            }
+        }
+    }
+
+    /**
+     * 쌓인 작업을 모두 꺼낸다
+     * - 비어 있으면 대기열 자체를 지우고 null (→ 다음 poll 이 새 태스크를 띄움)
+     * - 꺼낸 뒤에도 빈 대기열은 남겨서 실행 중인 동안 들어온 작업이 여기 붙게
+     */
+    private List<SyncJob> takeQueued(String userId) {
+        AtomicReference<List<SyncJob>> taken = new AtomicReference<>();
+        queues.computeIfPresent(userId, (k, queued) -> {
+            if (queued.isEmpty()) return null;
+            taken.set(queued);
+            return new ArrayList<>();
+        });
+        return taken.get();
+    }
+
+    /** lease-seconds 보다 충분히 짧게 */
+    @Scheduled(fixedDelayString = "${app.sync-jobs.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        if (!enabled || held.isEmpty()) return;
+        try {
+            jobs.renewLeases(List.copyOf(held));
+        } catch (Exception e) {
+            log.warn("sync job lease heartbeat failed", e);
+        }
+    }
+
+    /**
+     * 유저 작업을 순서대로 실행
+     * - 연속된 CREATE / UPDATE / DELETE 는 최대 batch-max-size 개씩 구글 batch 요청 하나로
+     *   (같은 일정이 두 번 나오면 거기서 끊어서 순서 보장)
+     */
+    private void runUserJobs(List<SyncJob> userJobs) {
+        List<SyncJob> group = new ArrayList<>();
+        Set<String> groupEventIds = new HashSet<>();
+
+        for (SyncJob job : userJobs) {
+            boolean batchable = isMutation(job)
+                    && (job.getEventId() == null || !groupEventIds.contains(job.getEventId()));
+
+            if (!batchable || group.size() >= batchMaxSize) {
+                runGroup(group);
+                group.clear();
+                groupEventIds.clear();
+            }
+
+            if (isMutation(job)) {
+                group.add(job);
+                if (job.getEventId() != null) groupEventIds.add(job.getEventId());
+            } else {
+                runSingle(job);
+            }
+        }
+        runGroup(group);
+    }
+
+    private boolean isMutation(SyncJob job) {
+        return job.getType() == SyncJob.Type.CREATE
+                || job.getType() == SyncJob.Type.UPDATE
+                || job.getType() == SyncJob.Type.DELETE;
+    }
+
+    private void runGroup(List<SyncJob> group) {
+        if (group.isEmpty()) return;
+        if (group.size() == 1) {
+            runSingle(group.get(0));
+            return;
+        }
+
+        List<SyncJob> owned = new ArrayList<>(group.size());
+        for (SyncJob job : group) {
+            if (stillOwned(job)) owned.add(job);
+        }
+        if (owned.isEmpty()) return;
+        group = owned;
+
+        String userId = group.get(0).getUserId();
+        List<Exception> results;
+        try {
+            results = googleSyncService.executeBatch(userId, group);
+        } catch (Exception e) {
+            log.warn("sync batch of {} jobs for user {} failed", group.size(), userId, e);
+            for (SyncJob job : group) finish(job, e);
+            return;
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            finish(group.get(i), results.get(i));
+        }
+    }
+
+    private void runSingle(SyncJob job) {
+        if (!stillOwned(job)) return;
+        try {
+            googleSyncService.execute(job);
+            finish(job, null);
+        } catch (Exception e) {
+            finish(job, e);
+        }
+    }
+
+    /** 실행 직전 lease 확인/연장, 잃었으면 손대지 않고 놓는다 */
+    private boolean stillOwned(SyncJob job) {
+        boolean owned;
+        try {
+            owned = jobs.renewLease(job);
+        } catch (Exception e) {
+            log.warn("could not renew lease of sync job {}", job.getId(), e);
+            owned = false;
+        }
+        if (!owned) {
+            log.info("sync job {} ({}) lost its lease, skipping", job.getId(), job.getType());
+            held.remove(job);
+            inFlight.decrementAndGet();
+        }
+        return owned;
+    }
+
+    private void finish(SyncJob job, Exception error) {
+        try {
+            if (error == null) {
+                jobs.complete(job);
+            } else {
+                log.warn("sync job {} ({}) for user {} failed (attempt {})",
+                        job.getId(), job.getType(), job.getUserId(), job.getAttempts() + 1, error);
+                jobs.fail(job, error);
+            }
+        } catch (Exception e) {
+            // 결과 기록 실패 → lease 만료 후 다시 잡힌다
+            log.warn("could not record result of sync job {}", job.getId(), e);
+        } finally {
+            held.remove(job);
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.dallyeo.matuabom.service;
+
+import org.dallyeo.matuabom.dto.MeDto;
+import org.dallyeo.matuabom.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 유저별 프로필(/api/auth/me) + 구글 연동 여부 캐시
+ * - 무효화: UserService.upsertKakaoUser / linkGoogleEmail, GoogleOAuthClientService.saveTokens
+ * - 다른 인스턴스에서 바뀐 건 모르므로 ttl-seconds 가 지나면 다시 읽는다
+ */
+@Component
+public class UserProfileCache {
+
+    private final LruCache<String, Cached<MeDto>> profiles;
+    private final LruCache<String, Cached<Boolean>> googleLinks;
+    private final long ttlMillis;
+
+    /** 무효화 세대 (로딩 중에 무효화가 끼면 로딩 결과를 캐시에 넣지 않는다) */
+    private long generation;
+
+    public UserProfileCache(
+            @Value("${app.user-cache.max-size:10000}") int maxSize,
+            @Value("${app.user-cache.ttl-seconds:60}") long ttlSeconds
+    ) {
+        this.profiles = new LruCache<>(maxSize);
+        this.googleLinks = new LruCache<>(maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public MeDto profile(String userId, Supplier<MeDto> loader) {
+        return get(profiles, userId, loader);
+    }
+
+    public boolean googleLinked(String userId, Supplier<Boolean> loader) {
+        return get(googleLinks, userId, loader);
+    }
+
+    public void invalidate(String userId) {
+        synchronized (this) {
+            generation++;
+        }
+        profiles.remove(userId);
+        googleLinks.remove(userId);
+    }
+
+    private <T> T get(LruCache<String, Cached<T>> cache, String userId, Supplier<T> loader) {
+        Cached<T> hit = cache.get(userId);
+        if (hit != null && System.currentTimeMillis() < hit.expiresAtMillis) return hit.value;
+
+        long before;
+        synchronized (this) {
+            before = generation;
+        }
+
+        T loaded = loader.get();
+
+        synchronized (this) {
+            if (generation == before) {
+                cache.put(userId, new Cached<>(loaded, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return loaded;
+    }
+
+    private record Cached<T>(T value, long expiresAtMillis) {}
+}
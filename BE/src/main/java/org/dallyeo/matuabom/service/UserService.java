@@ -2,6 +2,7 @@ package org.dallyeo.matuabom.service;
 
 import lombok.RequiredArgsConstructor;
 import org.dallyeo.matuabom.domain.User;
+import org.dallyeo.matuabom.dto.MeDto;
 import org.dallyeo.matuabom.dto.UpsertKakaoUserDto;
 import org.dallyeo.matuabom.repository.UserRepository;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -12,12 +13,18 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-
+    private final UserProfileCache userCache;
+    private final KakaoFriendsService kakaoFriends;
 
     public User findById(String userId) {
         return userRepository.findById(userId).orElseThrow(() -> new UsernameNotFoundException("no user"+userId));
     }
 
+    /** /api/auth/me 용 프로필 (캐시) */
+    public MeDto getMe(String userId) {
+        return userCache.profile(userId, () -> MeDto.createDto(findById(userId)));
+    }
+
     @Transactional
     public String upsertKakaoUser(UpsertKakaoUserDto dto) {
         User user = userRepository.findByKakaoId(dto.getKakaoId())
@@ -41,6 +48,8 @@ public class UserService {
                                 .kakaoRefreshTokenExpiresAt(dto.getKakaoRefreshTokenExpiresAt())
                                 .build()
                 ));
+        userCache.invalidate(user.getId());
+        kakaoFriends.evict(user.getId());
         return user.getId();
     }
 
@@ -50,6 +59,7 @@ public class UserService {
             .orElseThrow(() -> new IllegalArgumentException("user not found: " + userId));
         user.setGoogleEmail(googleEmail);
         userRepository.save(user);
+        userCache.invalidate(userId);
     }
 
     /** API 호출 시, 현재 카카오 유저의 구글 이메일 조회 */
@@ -0,0 +1,60 @@
+package org.dallyeo.matuabom.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정이 걸쳐 있는 월(month) 버킷 계산
+ * - 버킷 id = UTC 기준 (year * 12 + month - 1)
+ * - [start, end) 가 걸친 모든 달을 multikey 배열로 저장 → 기간 조회는 버킷 $in 으로 바로 찾는다
+ * - MAX_SPAN_MONTHS 를 넘는 긴 일정은 LONG_BUCKET 하나만 저장 (모든 기간 조회에 같이 포함)
+ */
+public final class EventBuckets {
+
+    /** 아주 긴 일정용 공용 버킷 */
+    public static final int LONG_BUCKET = -1;
+
+    public static final int MAX_SPAN_MONTHS = 24;
+
+    private EventBuckets() {
+    }
+
+    public static int monthOf(long epochMillis) {
+        ZonedDateTime t = Instant.ofEpochMilli(epochMillis).atZone(ZoneOffset.UTC);
+        return t.getYear() * 12 + t.getMonthValue() - 1;
+    }
+
+    /** 일정 [startTs, endTs) 이 걸친 버킷 */
+    public static List<Integer> of(Long startTs, Long endTs) {
+        if (startTs == null) return List.of(LONG_BUCKET);
+
+        long end = (endTs == null || endTs <= startTs) ? startTs : endTs - 1; // end 는 배타적
+        int from = monthOf(startTs);
+        int to = monthOf(end);
+
+        if (to - from + 1 > MAX_SPAN_MONTHS) return List.of(LONG_BUCKET);
+        return range(from, to, false);
+    }
+
+    /**
+     * 조회 구간 [rangeStart, rangeEnd) 에서 찾아봐야 할 버킷 (LONG_BUCKET 포함)
+     * - 구간이 MAX_SPAN_MONTHS 보다 길면 null → 버킷 없이 일반 겹침 조회
+     */
+    public static List<Integer> forRange(long rangeStart, long rangeEnd) {
+        int from = monthOf(rangeStart);
+        int to = monthOf(Math.max(rangeStart, rangeEnd - 1));
+
+        if (to - from + 1 > MAX_SPAN_MONTHS) return null;
+        return range(from, to, true);
+    }
+
+    private static List<Integer> range(int from, int to, boolean withLong) {
+        List<Integer> buckets = new ArrayList<>(to - from + 2);
+        for (int m = from; m <= to; m++) buckets.add(m);
+        if (withLong) buckets.add(LONG_BUCKET);
+        return buckets;
+    }
+}
@@ -0,0 +1,139 @@
+package org.dallyeo.matuabom.util;
+
+import org.dallyeo.matuabom.dto.TimeSlot;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 바쁜 구간들 → 공통 빈 시간 (sweep-line)
+ * - 모든 참가자의 바쁜 구간 [start, end) 을 창 [from, to) 으로 잘라서 한 번에 받는다
+ * - 근무 시간 밖(과 주말)도 바쁜 구간으로 추가 → 같은 sweep 한 번으로 처리
+ * - 시작 / 끝 시각을 각각 long[] 로 정렬한 뒤 두 포인터로 겹침 수(depth)를 세고,
+ *   depth 가 0 인 구간 중 minLength 이상만 돌려준다 (객체 정렬 없음, O(n log n))
+ */
+public final class FreeSlotFinder {
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * 근무 시간 제약
+     * - start > end 면 자정을 넘기는 근무 시간 (예: 22:00 ~ 02:00), start == end 면 하루 종일
+     * - weekdaysOnly 면 토/일은 통째로 제외
+     */
+    public record WorkingHours(LocalTime start, LocalTime end, ZoneId zone, boolean weekdaysOnly) {
+    }
+
+    /**
+     * @param starts     바쁜 구간 시작 (앞에서 n 개만 사용, 배열은 건드리지 않는다)
+     * @param ends       바쁜 구간 끝
+     * @param hours      null 이면 하루 종일 가능
+     */
+    public static List<TimeSlot> find(long[] starts, long[] ends, int n,
+                                      long from, long to, long minLength, WorkingHours hours) {
+        if (to <= from) return List.of();
+
+        Intervals busy = new Intervals(n + 64);
+        for (int i = 0; i < n; i++) {
+            busy.add(Math.max(starts[i], from), Math.min(ends[i], to));
+        }
+        if (hours != null) addOffHours(busy, from, to, hours);
+
+        return sweep(busy, from, to, Math.max(minLength, 1));
+    }
+
+    private static List<TimeSlot> sweep(Intervals busy, long from, long to, long minLength) {
+        long[] s = Arrays.copyOf(busy.starts, busy.size);
+        long[] e = Arrays.copyOf(busy.ends, busy.size);
+        Arrays.sort(s);
+        Arrays.sort(e);
+
+        List<TimeSlot> free = new ArrayList<>();
+        long cursor = from;   // depth 가 마지막으로 0 이 된 시각
+        int depth = 0;
+        int i = 0, j = 0;
+
+        // 같은 시각이면 시작을 먼저 → 맞닿은 두 일정 사이에 길이 0 인 빈 시간이 생기지 않는다
+        while (i < s.length) {
+            if (s[i] <= e[j]) {
+                if (depth++ == 0 && s[i] - cursor >= minLength) {
+                    free.add(new TimeSlot(cursor, s[i]));
+                }
+                i++;
+            } else {
+                if (--depth == 0) cursor = e[j];
+                j++;
+            }
+        }
+        // 남은 끝 시각 중 마지막이 곧 모든 구간이 끝나는 시각
+        if (j < e.length) cursor = Math.max(cursor, e[e.length - 1]);
+
+        if (to - cursor >= minLength) free.add(new TimeSlot(cursor, to));
+        return free;
+    }
+
+    /** 창에 걸친 날마다 근무 시간 밖을 바쁜 구간으로 */
+    private static void addOffHours(Intervals busy, long from, long to, WorkingHours hours) {
+        ZoneId zone = hours.zone();
+        LocalDate day = Instant.ofEpochMilli(from).atZone(zone).toLocalDate().minusDays(1);
+        LocalDate last = Instant.ofEpochMilli(to).atZone(zone).toLocalDate();
+
+        for (; !day.isAfter(last); day = day.plusDays(1)) {
+            long dayStart = millis(day, LocalTime.MIDNIGHT, zone);
+            long nextDay = millis(day.plusDays(1), LocalTime.MIDNIGHT, zone);
+            if (nextDay <= from || dayStart >= to) continue;
+
+            if (hours.weekdaysOnly()
+                    && (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)) {
+                busy.add(Math.max(dayStart, from), Math.min(nextDay, to));
+                continue;
+            }
+
+            if (hours.start().equals(hours.end())) continue;
+
+            long workStart = millis(day, hours.start(), zone);
+            long workEnd = millis(day, hours.end(), zone);
+            if (hours.start().isBefore(hours.end())) {
+                busy.add(Math.max(dayStart, from), Math.min(workStart, to));
+                busy.add(Math.max(workEnd, from), Math.min(nextDay, to));
+            } else {
+                // 자정을 넘기는 근무 시간 → 그날 end ~ start 사이만 쉼
+                busy.add(Math.max(workEnd, from), Math.min(workStart, to));
+            }
+        }
+    }
+
+    private static long millis(LocalDate day, LocalTime time, ZoneId zone) {
+        return day.atTime(time).atZone(zone).toInstant().toEpochMilli();
+    }
+
+    /** 길이 0 이하 구간은 버리는 long[] 2개짜리 가변 배열 */
+    private static final class Intervals {
+        long[] starts;
+        long[] ends;
+        int size;
+
+        Intervals(int capacity) {
+            starts = new long[Math.max(capacity, 16)];
+            ends = new long[starts.length];
+        }
+
+        void add(long start, long end) {
+            if (end <= start) return;
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package org.dallyeo.matuabom.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Component
 public class JwtUtil {
@@ -16,10 +26,28 @@ public class JwtUtil {
     private final long accessTokenSeconds = 60 * 60;        // 1h
     private final long refreshTokenSeconds = 60L * 60 * 24; // 24h
 
-    public JwtUtil() {
+    // 파서는 thread-safe → 하나만 만들어서 재사용
+    private final JwtParser parser;
+
+    /**
+     * 검증 끝난 토큰 → (sub, exp) 캐시 (null = 끔)
+     * - 키는 토큰 문자열 전체(서명 포함)의 SHA-256 → 원문 토큰을 메모리에 들고 있지 않고,
+     *   payload 만 바꾼 위조 토큰은 절대 hit 안 됨
+     * - exp 가 지난 항목은 hit 으로 치지 않고 다시 파싱 → ExpiredJwtException
+     * - 모든 인증 요청이 지나가는 곳이라 전역 락 없는 ConcurrentHashMap
+     *   크기 제한은 넘쳤을 때 한 스레드만 sweep (만료된 것 먼저, 그래도 많으면 아무거나 정리)
+     */
+    private final ConcurrentMap<String, Verified> verified;
+    private final int verifiedCacheSize;
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public JwtUtil(@Value("${app.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         String secret = System.getenv().getOrDefault("JWT_SECRET",
                 "change-this-to-a-long-long-random-secret-change-this");
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verified = verifiedCacheSize > 0 ? new ConcurrentHashMap<>() : null;
+        this.verifiedCacheSize = verifiedCacheSize;
     }
 
     public String createAccessToken(String userId) {
@@ -41,13 +69,58 @@ public class JwtUtil {
 //    }
 
     public String validateAndGetSub(String jwt) {
-            return Jwts.parser().verifyWith(key).build()
-                    .parseSignedClaims(jwt)
-                    .getPayload()
-                    .getSubject();
+        String cacheKey = verified != null ? digest(jwt) : null;
+        if (cacheKey != null) {
+            Verified hit = verified.get(cacheKey);
+            if (hit != null) {
+                if (System.currentTimeMillis() < hit.expiresAtMillis) return hit.sub;
+                verified.remove(cacheKey, hit);
+            }
+        }
+
+        Claims claims = parser.parseSignedClaims(jwt).getPayload();
+        String sub = claims.getSubject();
+
+        // exp 없는 토큰은 언제까지 믿을지 모르니 캐시하지 않는다
+        Date exp = claims.getExpiration();
+        if (verified != null && sub != null && exp != null) {
+            verified.put(cacheKey, new Verified(sub, exp.getTime()));
+            if (verified.size() > verifiedCacheSize) sweep();
+        }
+        return sub;
+    }
+
+    private static String digest(String jwt) {
+        try {
+            // MessageDigest 는 thread-safe 하지 않음 → 호출마다 새로
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            long now = System.currentTimeMillis();
+            verified.values().removeIf(v -> now >= v.expiresAtMillis);
+
+            // 유효한 토큰만으로도 넘치면 90% 까지 줄인다 (지워진 토큰은 다음 요청에서 다시 검증)
+            int target = verifiedCacheSize - verifiedCacheSize / 10;
+            Iterator<String> it = verified.keySet().iterator();
+            while (verified.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
     }
 
     public String getUserIdFromToken(String jwt) {
             return validateAndGetSub(jwt);
     }
+
+    private record Verified(String sub, long expiresAtMillis) {}
 }
@@ -0,0 +1,95 @@
+package org.dallyeo.matuabom.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * 크기 제한이 있는 LRU 캐시 (thread-safe)
+ * - maxSize 를 넘으면 가장 오래 안 쓰인 항목부터 밀어낸다
+ * - hit / miss / eviction 횟수를 같이 센다
+ * - onEvict 는 크기 초과로 밀려날 때만 (락 안에서) 불린다 → 짧게 끝나는 작업만
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> map;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public LruCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public LruCache(int maxSize, BiConsumer<? super K, ? super V> onEvict) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions++;
+                    if (onEvict != null) onEvict.accept(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        V v = map.get(key);
+        if (v == null) misses++;
+        else hits++;
+        return v;
+    }
+
+    /** hit/miss 통계에 안 잡히는 조회 */
+    public synchronized V peek(K key) {
+        return map.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        map.put(key, value);
+    }
+
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    /** 조건에 맞는 항목 일괄 제거 */
+    public synchronized int removeIf(BiPredicate<? super K, ? super V> predicate) {
+        int before = map.size();
+        map.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue()));
+        return before - map.size();
+    }
+
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+}
@@ -0,0 +1,93 @@
+package org.dallyeo.matuabom.service;
+
+import com.google.api.client.auth.oauth2.TokenResponseException;
+import com.google.api.client.json.Json;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.bson.Document;
+import org.dallyeo.matuabom.domain.GoogleOAuthClientEntity;
+import org.dallyeo.matuabom.repository.GoogleOAuthClientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoogleTokenManagerTest {
+
+    private GoogleOAuthClientRepository repo;
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(GoogleOAuthClientRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+    }
+
+    /** 구글 토큰 엔드포인트 대신 고정 응답을 주는 transport */
+    private GoogleTokenManager manager(int status, String body) {
+        MockHttpTransport transport = new MockHttpTransport.Builder()
+                .setLowLevelHttpResponse(new MockLowLevelHttpResponse()
+                        .setStatusCode(status)
+                        .setContentType(Json.MEDIA_TYPE)
+                        .setContent(body))
+                .build();
+        return new GoogleTokenManager(repo, mongoTemplate, transport, Runnable::run,
+                "client-id", "client-secret", 300, 600, 100);
+    }
+
+    private GoogleOAuthClientEntity expired(String refreshToken) {
+        GoogleOAuthClientEntity tokens = new GoogleOAuthClientEntity();
+        tokens.setId("g1");
+        tokens.setUserId("user-1");
+        tokens.setAccessToken("old-access");
+        tokens.setAccessTokenExpiresAt(Instant.now().minusSeconds(60));
+        tokens.setRefreshToken(refreshToken);
+        when(repo.findById("g1")).thenReturn(Optional.of(tokens));
+        return tokens;
+    }
+
+    @Test
+    void revokedRefreshTokenIsDiscarded() {
+        GoogleOAuthClientEntity tokens = expired("revoked-token");
+        GoogleTokenManager manager = manager(400,
+                "{\"error\":\"invalid_grant\",\"error_description\":\"Token has been expired or revoked.\"}");
+
+        assertThatThrownBy(() -> manager.ensureFresh(tokens)).isInstanceOf(IllegalStateException.class);
+
+        // 같은 토큰일 때만 지운다 → sweeper 조회(refreshToken != null)에서 빠짐
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(GoogleOAuthClientEntity.class));
+
+        assertThat(query.getValue().getQueryObject().get("_id")).isEqualTo("g1");
+        assertThat(query.getValue().getQueryObject().get("refreshToken")).isEqualTo("revoked-token");
+        Document unset = (Document) update.getValue().getUpdateObject().get("$unset");
+        assertThat(unset).containsKey("refreshToken");
+        assertThat(tokens.getRefreshToken()).isNull();
+    }
+
+    @Test
+    void transientFailureKeepsRefreshToken() {
+        GoogleOAuthClientEntity tokens = expired("good-token");
+        GoogleTokenManager manager = manager(500, "{\"error\":\"internal_failure\"}");
+
+        assertThatThrownBy(() -> manager.ensureFresh(tokens)).isInstanceOf(TokenResponseException.class);
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(GoogleOAuthClientEntity.class));
+        assertThat(tokens.getRefreshToken()).isEqualTo("good-token");
+    }
+}
@@ -0,0 +1,89 @@
+package org.dallyeo.matuabom.service;
+
+import org.dallyeo.matuabom.domain.User;
+import org.dallyeo.matuabom.dto.CompactEventsRes;
+import org.dallyeo.matuabom.dto.GroupAvailabilityRes;
+import org.dallyeo.matuabom.dto.TimeSlot;
+import org.dallyeo.matuabom.repository.CalendarEventRepository;
+import org.dallyeo.matuabom.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupAvailabilityServiceTest {
+
+    private CalendarEventRepository events;
+    private UserRepository users;
+    private KakaoFriendsService kakaoFriends;
+    private GroupAvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        events = mock(CalendarEventRepository.class);
+        users = mock(UserRepository.class);
+        kakaoFriends = mock(KakaoFriendsService.class);
+        // 병렬 조회는 호출 스레드에서 바로
+        service = new GroupAvailabilityService(events, users, kakaoFriends, Runnable::run, 50, 62);
+
+        when(users.findById("me")).thenReturn(Optional.of(user("me", 100L)));
+        when(users.findByIdIn(any())).thenReturn(List.of(user("friend", 200L), user("stranger", 300L)));
+        when(kakaoFriends.friendKakaoIds(eq("me"), any())).thenReturn(Set.of(200L));
+        when(events.findCompact(any(), any(), any(), any())).thenReturn(empty());
+    }
+
+    private static User user(String id, Long kakaoId) {
+        return User.builder().id(id).kakaoId(kakaoId).kakaoAccessToken("token-" + id).build();
+    }
+
+    private static CompactEventsRes empty() {
+        return new CompactEventsRes(0, new String[0], new String[0], new long[0], new long[0],
+                new boolean[0], new String[0]);
+    }
+
+    @Test
+    void rejectsParticipantsWhoAreNotKakaoFriends() {
+        assertThatThrownBy(() -> service.findCommonFreeSlots(
+                "me", List.of("friend", "stranger"), 0, 3_600_000, 60_000, null, false))
+                .isInstanceOf(AccessDeniedException.class);
+
+        // 거부되면 누구의 일정도 읽지 않는다
+        verify(events, never()).findCompact(any(), any(), any(), any());
+    }
+
+    @Test
+    void rejectsUnknownUserIds() {
+        assertThatThrownBy(() -> service.findCommonFreeSlots(
+                "me", List.of("no-such-user"), 0, 3_600_000, 60_000, null, false))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void allowsSelfAndFriends() {
+        GroupAvailabilityRes res = service.findCommonFreeSlots(
+                "me", List.of("friend"), 0, 3_600_000, 60_000, null, false);
+
+        assertThat(res.userIds()).containsExactly("me", "friend");
+        assertThat(res.slots()).containsExactly(new TimeSlot(0, 3_600_000));
+    }
+
+    @Test
+    void selfOnlyNeedsNoFriendLookup() {
+        service.findCommonFreeSlots("me", List.of("me"), 0, 3_600_000, 60_000, null, false);
+
+        verify(kakaoFriends, never()).friendKakaoIds(anyString(), any());
+    }
+}
@@ -0,0 +1,211 @@
+package org.dallyeo.matuabom.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.dallyeo.matuabom.config.RestTemplateConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 카카오 stub (JDK HttpServer) 으로 친구 목록 캐시 / 조건부 재검증 / 요청 합치기 확인
+ */
+class KakaoFriendsServiceTest {
+
+    private static final String FRIENDS = "{\"elements\":[{\"id\":1,\"profile_nickname\":\"친구\"}],\"total_count\":1}";
+    private static final String ETAG = "\"friends-v1\"";
+    private static final String SECOND_PAGE = "{\"elements\":[{\"id\":2,\"profile_nickname\":\"다음 페이지 친구\"}],\"total_count\":2}";
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private RestTemplate restTemplate;
+    private String baseUrl;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private final List<String> authorizations = new ArrayList<>();
+    private volatile CountDownLatch gate;
+    private volatile int status = 200;
+    private volatile boolean paged;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/api/talk/friends", this::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        restTemplate = new RestTemplateConfig().restTemplate(new RestTemplateBuilder(), 1000, 2000);
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        synchronized (authorizations) {
+            authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        }
+        try {
+            CountDownLatch g = gate;
+            if (g != null) g.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (status != 200) {
+            byte[] body = "{\"msg\":\"this access token does not exist\",\"code\":-401}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            return;
+        }
+
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] body = friendsPage(exchange.getRequestURI().getQuery()).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /** paged 면 첫 페이지에 after_url 을 달고 offset=100 에서 두 번째 페이지 */
+    private String friendsPage(String query) {
+        if (!paged) return FRIENDS;
+        if (query != null && query.contains("offset=100")) return SECOND_PAGE;
+        return "{\"elements\":[{\"id\":1,\"profile_nickname\":\"친구\"}],\"total_count\":2,"
+                + "\"after_url\":\"" + baseUrl + "/v1/api/talk/friends?offset=100&limit=100\"}";
+    }
+
+    private KakaoFriendsService service(long ttlSeconds) {
+        return new KakaoFriendsService(restTemplate, new ObjectMapper(), baseUrl, ttlSeconds, 100, 50);
+    }
+
+    @Test
+    void freshEntryIsServedWithoutCallingKakao() {
+        KakaoFriendsService friends = service(300);
+        AtomicInteger tokenLookups = new AtomicInteger();
+
+        String first = friends.friends("user-1", () -> "token-" + tokenLookups.incrementAndGet());
+        String second = friends.friends("user-1", () -> "token-" + tokenLookups.incrementAndGet());
+
+        assertThat(first).isEqualTo(FRIENDS);
+        assertThat(second).isEqualTo(FRIENDS);
+        assertThat(requests).hasValue(1);
+        assertThat(tokenLookups).hasValue(1);
+        assertThat(authorizations).containsExactly("Bearer token-1");
+    }
+
+    @Test
+    void staleEntryIsRevalidatedWithEtag() {
+        KakaoFriendsService friends = service(0);
+
+        friends.friends("user-1", () -> "token");
+        String revalidated = friends.friends("user-1", () -> "token");
+
+        assertThat(revalidated).isEqualTo(FRIENDS);
+        assertThat(requests).hasValue(2);
+        assertThat(notModified).hasValue(1);
+    }
+
+    @Test
+    void concurrentRequestsForSameUserShareOneCall() throws Exception {
+        KakaoFriendsService friends = service(300);
+        gate = new CountDownLatch(1);
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> friends.friends("user-1", () -> "token")));
+            }
+
+            // 첫 요청이 stub 에 도착한 뒤 잠깐 기다렸다가 풀어준다
+            long deadline = System.currentTimeMillis() + 5000;
+            while (requests.get() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(100);
+            gate.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(FRIENDS);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void friendKakaoIdsComeFromCachedList() {
+        KakaoFriendsService friends = service(300);
+
+        assertThat(friends.friendKakaoIds("user-1", () -> "token")).containsExactly(1L);
+        assertThat(friends.friends("user-1", () -> "token")).isEqualTo(FRIENDS);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void friendKakaoIdsFollowAllPages() {
+        KakaoFriendsService friends = service(300);
+        paged = true;
+
+        assertThat(friends.friendKakaoIds("user-1", () -> "token")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(requests).hasValue(2);
+        // 다음 페이지도 같은 토큰으로
+        assertThat(authorizations).containsExactly("Bearer token", "Bearer token");
+
+        // 두 번째 조회는 캐시에서
+        assertThat(friends.friendKakaoIds("user-1", () -> "token")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void kakaoErrorsAreNotCached() {
+        KakaoFriendsService friends = service(300);
+        status = 401;
+
+        assertThatThrownBy(() -> friends.friends("user-1", () -> "expired"))
+                .isInstanceOf(HttpClientErrorException.Unauthorized.class);
+
+        status = 200;
+        assertThat(friends.friends("user-1", () -> "token")).isEqualTo(FRIENDS);
+        assertThat(requests).hasValue(2);
+    }
+}
@@ -0,0 +1,48 @@
+package org.dallyeo.matuabom.service;
+
+import org.dallyeo.matuabom.dto.CalendarSignal;
+import org.dallyeo.matuabom.dto.EventChangeSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCalendarBackplaneTest {
+
+    @Test
+    void publishDeliversToEverySubscriber() {
+        LocalCalendarBackplane backplane = new LocalCalendarBackplane();
+        List<CalendarSignal> first = new ArrayList<>();
+        List<CalendarSignal> second = new ArrayList<>();
+        backplane.subscribe(first::add);
+        backplane.subscribe(second::add);
+
+        CalendarSignal signal = new CalendarSignal(backplane.nodeId(), "user-1", 3L, EventChangeSet.updated("ev-1"));
+        backplane.publish(signal);
+
+        assertThat(first).containsExactly(signal);
+        assertThat(second).containsExactly(signal);
+    }
+
+    @Test
+    void failingSubscriberDoesNotBlockOthers() {
+        LocalCalendarBackplane backplane = new LocalCalendarBackplane();
+        List<CalendarSignal> received = new ArrayList<>();
+        backplane.subscribe(s -> {
+            throw new IllegalStateException("boom");
+        });
+        backplane.subscribe(received::add);
+
+        backplane.publish(new CalendarSignal(backplane.nodeId(), "user-1", 1L, EventChangeSet.deleted("ev-1")));
+
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void eachInstanceHasItsOwnNodeId() {
+        assertThat(new LocalCalendarBackplane().nodeId())
+                .isNotEqualTo(new LocalCalendarBackplane().nodeId());
+    }
+}
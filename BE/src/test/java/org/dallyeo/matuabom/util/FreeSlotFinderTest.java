@@ -0,0 +1,97 @@
+package org.dallyeo.matuabom.util;
+
+import org.dallyeo.matuabom.dto.TimeSlot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreeSlotFinderTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static long at(String localDateTime) {
+        return LocalDateTime.parse(localDateTime).atZone(SEOUL).toInstant().toEpochMilli();
+    }
+
+    private static TimeSlot slot(String start, String end) {
+        return new TimeSlot(at(start), at(end));
+    }
+
+    @Test
+    void mergesOverlappingBusyIntervalsFromAllParticipants() {
+        long[] starts = {10, 50, 15};
+        long[] ends = {20, 60, 30};
+
+        List<TimeSlot> free = FreeSlotFinder.find(starts, ends, 3, 0, 100, 1, null);
+
+        assertThat(free).containsExactly(
+                new TimeSlot(0, 10), new TimeSlot(30, 50), new TimeSlot(60, 100));
+    }
+
+    @Test
+    void touchingIntervalsLeaveNoGap() {
+        long[] starts = {10, 20};
+        long[] ends = {20, 30};
+
+        assertThat(FreeSlotFinder.find(starts, ends, 2, 0, 100, 1, null))
+                .containsExactly(new TimeSlot(0, 10), new TimeSlot(30, 100));
+    }
+
+    @Test
+    void dropsSlotsShorterThanMinimumAndClipsToWindow() {
+        long[] starts = {-50, 15, 90};
+        long[] ends = {10, 30, 500};
+
+        assertThat(FreeSlotFinder.find(starts, ends, 3, 0, 100, 15, null))
+                .containsExactly(new TimeSlot(30, 90));
+    }
+
+    @Test
+    void emptyCalendarsAreFreeForWholeWindow() {
+        assertThat(FreeSlotFinder.find(new long[0], new long[0], 0, 0, 100, 1, null))
+                .containsExactly(new TimeSlot(0, 100));
+    }
+
+    @Test
+    void appliesWorkingHours() {
+        var hours = new FreeSlotFinder.WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0), SEOUL, false);
+        long[] starts = {at("2025-03-03T12:00")};
+        long[] ends = {at("2025-03-03T13:00")};
+
+        List<TimeSlot> free = FreeSlotFinder.find(starts, ends, 1,
+                at("2025-03-03T00:00"), at("2025-03-05T00:00"), 30 * 60_000L, hours);
+
+        assertThat(free).containsExactly(
+                slot("2025-03-03T09:00", "2025-03-03T12:00"),
+                slot("2025-03-03T13:00", "2025-03-03T18:00"),
+                slot("2025-03-04T09:00", "2025-03-04T18:00"));
+    }
+
+    @Test
+    void weekdaysOnlySkipsWeekend() {
+        // 2025-03-01 토, 03-02 일, 03-03 월
+        var hours = new FreeSlotFinder.WorkingHours(LocalTime.of(9, 0), LocalTime.of(18, 0), SEOUL, true);
+
+        List<TimeSlot> free = FreeSlotFinder.find(new long[0], new long[0], 0,
+                at("2025-03-01T00:00"), at("2025-03-04T00:00"), 60_000L, hours);
+
+        assertThat(free).containsExactly(slot("2025-03-03T09:00", "2025-03-03T18:00"));
+    }
+
+    @Test
+    void overnightWorkingHoursSpanMidnight() {
+        var hours = new FreeSlotFinder.WorkingHours(LocalTime.of(22, 0), LocalTime.of(2, 0), SEOUL, false);
+
+        List<TimeSlot> free = FreeSlotFinder.find(new long[0], new long[0], 0,
+                at("2025-03-03T00:00"), at("2025-03-04T12:00"), 60_000L, hours);
+
+        assertThat(free).containsExactly(
+                slot("2025-03-03T00:00", "2025-03-03T02:00"),
+                slot("2025-03-03T22:00", "2025-03-04T02:00"));
+    }
+}
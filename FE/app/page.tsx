@@ -89,7 +89,7 @@ export default function HomePage() {
   // ✅ SSE 구독: BE(Webhook/증분 동기화) → FE 실시간 반영
   useEffect(() => {
     const sseUrl = `${API_BASE}/api/sse/events`;
-    const es = new EventSource(sseUrl);
+    const es = new EventSource(sseUrl, { withCredentials: true });
 
     es.addEventListener('events-updated', () => {
       refresh();